@@ -0,0 +1,148 @@
+package co.com.crediya.cy_authentication.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.com.crediya.cy_authentication.loadtest.LoadTestConfig.Operation;
+
+final class LoadGenerator {
+
+    private static final String USERS_PATH = "/api/v1/usuarios";
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+    private final LoadTestConfig config;
+    private final URI baseUri;
+    private final HttpClient client;
+    private final ObjectMapper json = new ObjectMapper();
+    private final Operation[] schedule;
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, AtomicLong> errors = new EnumMap<>(Operation.class);
+
+    private volatile boolean recording;
+
+    LoadGenerator(LoadTestConfig config, URI baseUri) {
+        this.config = config;
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        this.schedule = config.mix().entrySet().stream()
+            .flatMap(entry -> IntStream.range(0, entry.getValue()).mapToObj(i -> entry.getKey()))
+            .toArray(Operation[]::new);
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new AtomicLong());
+        }
+    }
+
+    Map<Operation, Histogram> histograms() {
+        return histograms;
+    }
+
+    Map<Operation, Long> errors() {
+        return errors.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get(), (a, b) -> a, () -> new EnumMap<>(Operation.class)));
+    }
+
+    void run() throws InterruptedException {
+        long warmupEnd = System.nanoTime() + config.warmup().toNanos();
+        long end = warmupEnd + config.duration().toNanos();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < config.concurrency(); i++) {
+                workers.submit(() -> worker(warmupEnd, end));
+            }
+            while (System.nanoTime() < warmupEnd) {
+                Thread.sleep(100);
+            }
+            histograms.values().forEach(Histogram::reset);
+            errors.values().forEach(counter -> counter.set(0));
+            recording = true;
+        }
+    }
+
+    private void worker(long warmupEnd, long end) {
+        String token = null;
+        while (System.nanoTime() < end) {
+            Operation operation = token == null
+                ? Operation.LOGIN
+                : schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+            long start = System.nanoTime();
+            try {
+                HttpResponse<String> response = client.send(request(operation, token), HttpResponse.BodyHandlers.ofString());
+                long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+                if (response.statusCode() >= 400) {
+                    record(operation, micros, true);
+                    continue;
+                }
+                if (operation == Operation.LOGIN) {
+                    token = json.readTree(response.body()).path("token").asText(null);
+                }
+                record(operation, micros, false);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception ex) {
+                record(operation, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), true);
+            }
+        }
+    }
+
+    private void record(Operation operation, long micros, boolean failed) {
+        if (!recording) {
+            return;
+        }
+        histograms.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        if (failed) {
+            errors.get(operation).incrementAndGet();
+        }
+    }
+
+    private HttpRequest request(Operation operation, String token) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case LOGIN -> post(USERS_PATH + "/login", null,
+                "{\"username\":\"" + SyntheticUsers.email(random.nextInt(1, config.users() + 1)) +
+                "\",\"password\":\"" + LoadTestConfig.PASSWORD + "\"}");
+            case TOKEN_LOOKUP -> get(USERS_PATH + "/consultarPorToken", token);
+            case BASIC_INFO -> post(USERS_PATH + "/infoUsuarios", token, IntStream.range(0, config.emailsPerLookup())
+                .mapToObj(i -> "\"" + SyntheticUsers.email(random.nextInt(1, config.users() + 1)) + "\"")
+                .collect(Collectors.joining(",", "[", "]")));
+            case PAGE -> get(USERS_PATH + "/paginado?size=20", token);
+        };
+    }
+
+    private HttpRequest get(String path, String token) {
+        return authorized(HttpRequest.newBuilder(baseUri.resolve(path)).GET(), token).build();
+    }
+
+    private HttpRequest post(String path, String token, String body) {
+        return authorized(HttpRequest.newBuilder(baseUri.resolve(path)), token)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    private static HttpRequest.Builder authorized(HttpRequest.Builder builder, String token) {
+        builder.timeout(Duration.ofSeconds(30));
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+}
@@ -0,0 +1,61 @@
+package co.com.crediya.cy_authentication.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+record LoadTestConfig(
+        int users,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        int emailsPerLookup,
+        Map<Operation, Integer> mix,
+        Path reportDir) {
+
+    static final String PASSWORD = "LoadTest123!";
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+            Integer.getInteger("loadtest.users", 10_000),
+            Integer.getInteger("loadtest.concurrency", 64),
+            Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 15)),
+            Duration.ofSeconds(Integer.getInteger("loadtest.duration", 60)),
+            Integer.getInteger("loadtest.emailsPerLookup", 50),
+            parseMix(System.getProperty("loadtest.mix", "login:10,token:60,info:20,page:10")),
+            Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest"))
+        );
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            weights.put(Operation.fromKey(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+
+    enum Operation {
+        LOGIN("login"),
+        TOKEN_LOOKUP("token"),
+        BASIC_INFO("info"),
+        PAGE("page");
+
+        private final String key;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        static Operation fromKey(String key) {
+            for (Operation operation : values()) {
+                if (operation.key.equals(key)) {
+                    return operation;
+                }
+            }
+            throw new IllegalArgumentException("Unknown load test operation: " + key);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package co.com.crediya.cy_authentication.loadtest;
+
+import java.net.URI;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import co.com.crediya.cy_authentication.MainApplication;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+
+/**
+ * Levanta Postgres embebido y la aplicación completa en un puerto aleatorio,
+ * siembra usuarios sintéticos y ejecuta una mezcla de peticiones HTTP de lazo cerrado.
+ */
+public final class LoadTestHarness {
+
+    private LoadTestHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+             ConfigurableApplicationContext context = startApplication(postgres)) {
+
+            SyntheticUsers.seed(postgres.getPostgresDatabase(), config.users());
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+
+            LoadGenerator generator = new LoadGenerator(config, URI.create("http://localhost:" + port));
+            generator.run();
+            LoadTestReport.write(config, generator.histograms(), generator.errors());
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(EmbeddedPostgres postgres) {
+        byte[] secret = new byte[48];
+        new SecureRandom().nextBytes(secret);
+
+        List<String> args = new ArrayList<>(List.of(
+            "--server.port=0",
+            "--spring.r2dbc.host=localhost",
+            "--spring.r2dbc.port=" + postgres.getPort(),
+            "--spring.r2dbc.database=postgres",
+            "--spring.r2dbc.schema=public",
+            "--spring.r2dbc.url=r2dbc:postgresql://localhost:" + postgres.getPort() + "/postgres",
+            "--spring.r2dbc.username=postgres",
+            "--spring.r2dbc.password=postgres",
+            "--security.jwt.secret=" + Base64.getEncoder().encodeToString(secret),
+            "--security.password.bcrypt-strength=" + SyntheticUsers.BCRYPT_STRENGTH,
+            "--logging.level.root=WARN"
+        ));
+        String poolValidation = System.getProperty("loadtest.poolValidation");
+        if (poolValidation != null) {
+            args.add("--spring.r2dbc.pool.validation=" + poolValidation);
+        }
+
+        SpringApplication application = new SpringApplication(MainApplication.class);
+        return application.run(args.toArray(String[]::new));
+    }
+}
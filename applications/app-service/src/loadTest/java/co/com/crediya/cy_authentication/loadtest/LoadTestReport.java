@@ -0,0 +1,67 @@
+package co.com.crediya.cy_authentication.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+
+import org.HdrHistogram.Histogram;
+
+import co.com.crediya.cy_authentication.loadtest.LoadTestConfig.Operation;
+
+final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1_000.0;
+
+    private LoadTestReport() {
+    }
+
+    static void write(LoadTestConfig config, Map<Operation, Histogram> histograms, Map<Operation, Long> errors) throws IOException {
+        Files.createDirectories(config.reportDir());
+        double seconds = config.duration().toMillis() / 1_000.0;
+        Histogram overall = new Histogram(3);
+        long totalErrors = 0;
+
+        PrintStream out = System.out;
+        out.printf(Locale.ROOT, "%nLoad test: users=%d concurrency=%d warmup=%ds duration=%ds%n",
+            config.users(), config.concurrency(), config.warmup().toSeconds(), config.duration().toSeconds());
+        out.printf(Locale.ROOT, "%-14s %10s %10s %10s %10s %10s %8s%n", "operation", "count", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "errors");
+
+        for (Map.Entry<Operation, Histogram> entry : histograms.entrySet()) {
+            Histogram histogram = entry.getValue();
+            long operationErrors = errors.getOrDefault(entry.getKey(), 0L);
+            totalErrors += operationErrors;
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            overall.add(histogram);
+            printRow(out, entry.getKey().name().toLowerCase(Locale.ROOT), histogram, seconds, operationErrors);
+            writePercentiles(config.reportDir().resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm"), histogram);
+        }
+        if (overall.getTotalCount() > 0) {
+            printRow(out, "overall", overall, seconds, totalErrors);
+            writePercentiles(config.reportDir().resolve("overall.hgrm"), overall);
+        }
+        out.printf("%nPercentile distributions written to %s%n", config.reportDir().toAbsolutePath());
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, double seconds, long errors) {
+        out.printf(Locale.ROOT, "%-14s %10d %10.1f %10.2f %10.2f %10.2f %8d%n",
+            name,
+            histogram.getTotalCount(),
+            histogram.getTotalCount() / seconds,
+            histogram.getValueAtPercentile(50) / MICROS_PER_MILLI,
+            histogram.getValueAtPercentile(99) / MICROS_PER_MILLI,
+            histogram.getValueAtPercentile(99.9) / MICROS_PER_MILLI,
+            errors);
+    }
+
+    private static void writePercentiles(Path file, Histogram histogram) throws IOException {
+        try (PrintStream stream = new PrintStream(Files.newOutputStream(file))) {
+            // Valores en microsegundos escalados a milisegundos, formato compatible con HdrHistogram plotter
+            histogram.outputPercentileDistribution(stream, MICROS_PER_MILLI);
+        }
+    }
+}
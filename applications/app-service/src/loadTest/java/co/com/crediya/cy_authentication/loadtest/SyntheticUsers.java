@@ -0,0 +1,42 @@
+package co.com.crediya.cy_authentication.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+final class SyntheticUsers {
+
+    static final int BCRYPT_STRENGTH = 10;
+    private static final long ID_NUMBER_OFFSET = 500_000_000L;
+
+    private SyntheticUsers() {
+    }
+
+    static String email(int index) {
+        return "load-" + index + "@loadtest.local";
+    }
+
+    static void seed(DataSource dataSource, int users) throws SQLException {
+        // Un solo hash para todos: el costo coincide con security.password.bcrypt-strength y no dispara re-hash al login
+        String hash = new BCryptPasswordEncoder(BCRYPT_STRENGTH).encode(LoadTestConfig.PASSWORD);
+        String sql = "INSERT INTO users (id_number, id_type_id, name, lastname, birth_date, address, phone, email, base_salary, role_id, password) " +
+            "SELECT ? + g, 1, 'Load', 'User ' || g, DATE '1990-01-01', 'Calle ' || g, '300' || lpad(g::text, 7, '0'), " +
+            "'load-' || g || '@loadtest.local', 2500000, 3, ? FROM generate_series(1, ?) g";
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, ID_NUMBER_OFFSET);
+            statement.setString(2, hash);
+            statement.setInt(3, users);
+            statement.executeUpdate();
+        }
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("ANALYZE users")) {
+            statement.execute();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package co.com.crediya.cy_authentication.config;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.aop.ClassFilter;
+import org.springframework.aop.framework.autoproxy.AbstractBeanFactoryAwareAdvisingPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Envuelve casos de uso y gateways del dominio en un proxy que registra latencia,
+ * errores y peticiones en curso sin tocar el cuerpo de cada método.
+ */
+public class InstrumentedBeanPostProcessor extends AbstractBeanFactoryAwareAdvisingPostProcessor {
+
+    private static final String USE_CASE_PACKAGE = "co.com.crediya.cy_authentication.usecase";
+    private static final String MODEL_PACKAGE = "co.com.crediya.cy_authentication.model";
+    private static final String GATEWAYS_PACKAGE_SUFFIX = ".gateways";
+
+    public InstrumentedBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.advisor = new DefaultPointcutAdvisor(new InstrumentedMethodPointcut(), new ReactiveMetricsInterceptor(meterRegistry));
+        this.beforeExistingAdvisors = true;
+        setProxyTargetClass(true);
+    }
+
+    static Optional<Layer> layerOf(Class<?> targetClass) {
+        Class<?> userClass = ClassUtils.getUserClass(targetClass);
+        if (userClass.getPackageName().startsWith(USE_CASE_PACKAGE) && userClass.getSimpleName().endsWith("UseCase")) {
+            return Optional.of(Layer.USE_CASE);
+        }
+        if (ClassUtils.getAllInterfacesForClassAsSet(userClass).stream().anyMatch(InstrumentedBeanPostProcessor::isGateway)) {
+            return Optional.of(Layer.GATEWAY);
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isGateway(Class<?> type) {
+        return type.getPackageName().startsWith(MODEL_PACKAGE) && type.getPackageName().endsWith(GATEWAYS_PACKAGE_SUFFIX);
+    }
+
+    private static boolean declaredByGateway(Method method, Class<?> targetClass) {
+        return ClassUtils.getAllInterfacesForClassAsSet(targetClass).stream()
+            .filter(InstrumentedBeanPostProcessor::isGateway)
+            .flatMap(gateway -> Arrays.stream(gateway.getMethods()))
+            .anyMatch(candidate -> candidate.getName().equals(method.getName())
+                && Arrays.equals(candidate.getParameterTypes(), method.getParameterTypes()));
+    }
+
+    enum Layer {
+        USE_CASE("usecase"),
+        GATEWAY("gateway");
+
+        private final String metricPrefix;
+
+        Layer(String metricPrefix) {
+            this.metricPrefix = metricPrefix;
+        }
+
+        String metricPrefix() {
+            return metricPrefix;
+        }
+    }
+
+    private static final class InstrumentedMethodPointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public ClassFilter getClassFilter() {
+            return targetClass -> layerOf(targetClass).isPresent();
+        }
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            if (!Modifier.isPublic(method.getModifiers()) || Modifier.isStatic(method.getModifiers())) {
+                return false;
+            }
+            Class<?> userClass = ClassUtils.getUserClass(targetClass);
+            return layerOf(userClass)
+                .map(layer -> layer == Layer.USE_CASE
+                    ? method.getDeclaringClass() == userClass
+                    : declaredByGateway(method, userClass))
+                .orElse(false);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package co.com.crediya.cy_authentication.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@ConditionalOnProperty(prefix = "metrics.instrumentation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MetricsConfig {
+
+    // Estático para que el post-procesador se registre antes de crear casos de uso y adaptadores
+    @Bean
+    static InstrumentedBeanPostProcessor instrumentedBeanPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new InstrumentedBeanPostProcessor(meterRegistry);
+    }
+}
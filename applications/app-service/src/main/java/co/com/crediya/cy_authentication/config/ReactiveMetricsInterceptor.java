@@ -0,0 +1,170 @@
+package co.com.crediya.cy_authentication.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+import co.com.crediya.cy_authentication.config.InstrumentedBeanPostProcessor.Layer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ReactiveMetricsInterceptor implements MethodInterceptor {
+
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String OUTCOME_CANCELLED = "cancelled";
+
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private volatile MeterRegistry meterRegistry;
+
+    ReactiveMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistryProvider = meterRegistryProvider;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = registry();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+        Class<?> targetClass = ClassUtils.getUserClass(AopUtils.getTargetClass(invocation.getThis()));
+        Layer layer = InstrumentedBeanPostProcessor.layerOf(targetClass).orElse(Layer.GATEWAY);
+        MethodMetrics metrics = new MethodMetrics(registry, layer, targetClass.getSimpleName(), invocation.getMethod().getName());
+
+        Object result;
+        Probe assembly = metrics.start();
+        try {
+            result = invocation.proceed();
+        } catch (Throwable ex) {
+            assembly.failed(ex);
+            throw ex;
+        }
+
+        // Para Mono/Flux se mide desde la suscripción hasta la señal terminal, no el ensamblado
+        if (result instanceof Mono<?> mono) {
+            assembly.discard();
+            return Mono.defer(() -> {
+                Probe probe = metrics.start();
+                return mono.doOnError(probe::failed).doOnSuccess(value -> probe.succeeded()).doOnCancel(probe::cancelled);
+            });
+        }
+        if (result instanceof Flux<?> flux) {
+            assembly.discard();
+            return Flux.defer(() -> {
+                Probe probe = metrics.start();
+                return flux.doOnError(probe::failed).doOnComplete(probe::succeeded).doOnCancel(probe::cancelled);
+            });
+        }
+        assembly.succeeded();
+        return result;
+    }
+
+    private MeterRegistry registry() {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            registry = meterRegistryProvider.getIfAvailable();
+            meterRegistry = registry;
+        }
+        return registry;
+    }
+
+    private final class MethodMetrics {
+        private final MeterRegistry registry;
+        private final String prefix;
+        private final String className;
+        private final String methodName;
+        private final AtomicInteger active;
+
+        MethodMetrics(MeterRegistry registry, Layer layer, String className, String methodName) {
+            this.registry = registry;
+            this.prefix = layer.metricPrefix();
+            this.className = className;
+            this.methodName = methodName;
+            this.active = inFlight.computeIfAbsent(prefix + ":" + className + "." + methodName, key -> {
+                AtomicInteger counter = new AtomicInteger();
+                Gauge.builder(prefix + ".inflight", counter, AtomicInteger::get)
+                    .description("Invocaciones en curso")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .register(registry);
+                return counter;
+            });
+        }
+
+        Probe start() {
+            active.incrementAndGet();
+            return new Probe(this, Timer.start(registry));
+        }
+
+        void record(Timer.Sample sample, String outcome, Throwable error) {
+            active.decrementAndGet();
+            sample.stop(Timer.builder(prefix + ".duration")
+                .description("Latencia de la invocación")
+                .tag("class", className)
+                .tag("method", methodName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry));
+            if (error != null) {
+                Counter.builder(prefix + ".errors")
+                    .description("Invocaciones terminadas con error")
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("exception", error.getClass().getSimpleName())
+                    .register(registry)
+                    .increment();
+            }
+        }
+
+        void release() {
+            active.decrementAndGet();
+        }
+    }
+
+    private static final class Probe {
+        private final MethodMetrics metrics;
+        private final Timer.Sample sample;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        Probe(MethodMetrics metrics, Timer.Sample sample) {
+            this.metrics = metrics;
+            this.sample = sample;
+        }
+
+        void succeeded() {
+            if (finished.compareAndSet(false, true)) {
+                metrics.record(sample, OUTCOME_SUCCESS, null);
+            }
+        }
+
+        void failed(Throwable error) {
+            if (finished.compareAndSet(false, true)) {
+                metrics.record(sample, OUTCOME_ERROR, error);
+            }
+        }
+
+        void cancelled() {
+            if (finished.compareAndSet(false, true)) {
+                metrics.record(sample, OUTCOME_CANCELLED, null);
+            }
+        }
+
+        void discard() {
+            if (finished.compareAndSet(false, true)) {
+                metrics.release();
+            }
+        }
+    }
+}
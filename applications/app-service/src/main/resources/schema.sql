@@ -26,5 +26,9 @@ CREATE TABLE IF NOT EXISTS users (
     email VARCHAR(150) UNIQUE,
     base_salary DECIMAL(15,2),
     role_id INTEGER NOT NULL,
-    password VARCHAR(255) NOT NULL
-);
\ No newline at end of file
+    password VARCHAR(255) NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX IF NOT EXISTS idx_users_role_id_id ON users (role_id, id);
+CREATE INDEX IF NOT EXISTS idx_users_id_type_id_id ON users (id_type_id, id);
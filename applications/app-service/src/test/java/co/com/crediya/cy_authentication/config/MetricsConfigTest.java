@@ -0,0 +1,179 @@
+package co.com.crediya.cy_authentication.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+import co.com.crediya.cy_authentication.exception.InvalidCredentialsException;
+import co.com.crediya.cy_authentication.model.idtype.gateways.IdTypeRepository;
+import co.com.crediya.cy_authentication.model.role.Role;
+import co.com.crediya.cy_authentication.model.role.gateways.RoleRepository;
+import co.com.crediya.cy_authentication.model.security.gateways.PasswordHasher;
+import co.com.crediya.cy_authentication.model.security.gateways.TokenGenerator;
+import co.com.crediya.cy_authentication.model.user.gateways.UserRepository;
+import co.com.crediya.cy_authentication.usecase.authenticateuser.AuthenticateUserUseCase;
+import co.com.crediya.cy_authentication.usecase.role.RoleUseCase;
+import co.com.crediya.cy_authentication.usecase.user.UserUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class MetricsConfigTest {
+
+    @Test
+    void shouldProxyUseCasesAndGateways() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TestConfig.class)) {
+            assertTrue(AopUtils.isAopProxy(context.getBean(RoleUseCase.class)));
+            assertTrue(AopUtils.isAopProxy(context.getBean(RoleRepository.class)));
+            assertFalse(AopUtils.isAopProxy(context.getBean(MeterRegistry.class)));
+        }
+    }
+
+    @Test
+    void shouldInstrumentTheRealUseCaseBeans() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(UseCasesTestConfig.class)) {
+            AuthenticateUserUseCase authenticateUserUseCase = context.getBean(AuthenticateUserUseCase.class);
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+            assertTrue(AopUtils.isAopProxy(authenticateUserUseCase));
+            assertTrue(AopUtils.isAopProxy(context.getBean(UserUseCase.class)));
+            assertTrue(AopUtils.isAopProxy(context.getBean(RoleUseCase.class)));
+
+            // When & Then
+            StepVerifier.create(authenticateUserUseCase.handle("nadie@example.com", "x"))
+                .expectError(InvalidCredentialsException.class)
+                .verify();
+
+            assertEquals(1, registry.get("usecase.duration")
+                .tag("class", "AuthenticateUserUseCase").tag("method", "handle").tag("outcome", "error")
+                .timer().count());
+            assertNotNull(registry.find("usecase.errors")
+                .tag("method", "handle").tag("exception", "InvalidCredentialsException")
+                .counter());
+            assertEquals(0.0, registry.get("usecase.inflight").tag("method", "handle").gauge().value());
+        }
+    }
+
+    @Test
+    void shouldRecordLatencyOnlyAfterSubscription() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TestConfig.class)) {
+            RoleUseCase useCase = context.getBean(RoleUseCase.class);
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+            // Given
+            Flux<Role> roles = useCase.getAllRoles();
+            assertNull(registry.find("usecase.duration").timer());
+
+            // When & Then
+            StepVerifier.create(roles).expectNextCount(2).verifyComplete();
+
+            assertEquals(1, registry.get("usecase.duration")
+                .tag("class", "RoleUseCase").tag("method", "getAllRoles").tag("outcome", "success")
+                .timer().count());
+            assertEquals(1, registry.get("gateway.duration")
+                .tag("class", "StubRoleRepository").tag("method", "getAllRoles")
+                .timer().count());
+            assertEquals(0.0, registry.get("usecase.inflight").tag("method", "getAllRoles").gauge().value());
+        }
+    }
+
+    @Test
+    void shouldCountErrorsByExceptionType() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TestConfig.class)) {
+            RoleUseCase useCase = context.getBean(RoleUseCase.class);
+            MeterRegistry registry = context.getBean(MeterRegistry.class);
+
+            // When & Then
+            StepVerifier.create(useCase.getRoleById(-1)).expectError(IllegalArgumentException.class).verify();
+
+            assertNotNull(registry.find("usecase.errors")
+                .tag("method", "getRoleById").tag("exception", "IllegalArgumentException")
+                .counter());
+            assertEquals(1, registry.get("usecase.duration")
+                .tag("method", "getRoleById").tag("outcome", "error")
+                .timer().count());
+        }
+    }
+
+    @Configuration
+    @Import(MetricsConfig.class)
+    static class TestConfig {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public RoleRepository roleRepository() {
+            return new StubRoleRepository();
+        }
+
+        @Bean
+        public RoleUseCase roleUseCase(RoleRepository roleRepository) {
+            return new RoleUseCase(roleRepository);
+        }
+    }
+
+    @Configuration
+    @Import({MetricsConfig.class, UseCasesConfig.class})
+    static class UseCasesTestConfig {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        public RoleRepository roleRepository() {
+            return new StubRoleRepository();
+        }
+
+        // Cada consulta responde vacío: el login termina en credenciales inválidas sin depender de stubs
+        @Bean
+        public UserRepository userRepository() {
+            return Mockito.mock(UserRepository.class, invocation ->
+                invocation.getMethod().getReturnType() == Flux.class ? Flux.empty() : Mono.empty());
+        }
+
+        @Bean
+        public IdTypeRepository idTypeRepository() {
+            return Mockito.mock(IdTypeRepository.class);
+        }
+
+        @Bean
+        public PasswordHasher passwordHasher() {
+            return Mockito.mock(PasswordHasher.class);
+        }
+
+        @Bean
+        public TokenGenerator tokenGenerator() {
+            return Mockito.mock(TokenGenerator.class);
+        }
+    }
+
+    static class StubRoleRepository implements RoleRepository {
+
+        @Override
+        public Flux<Role> getAllRoles() {
+            return Flux.just(new Role(), new Role());
+        }
+
+        @Override
+        public Mono<Role> getRoleById(Integer roleId) {
+            return roleId < 0 ? Mono.error(new IllegalArgumentException("id inválido")) : Mono.just(new Role());
+        }
+    }
+}
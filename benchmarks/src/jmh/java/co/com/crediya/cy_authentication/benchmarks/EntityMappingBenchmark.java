@@ -0,0 +1,94 @@
+package co.com.crediya.cy_authentication.benchmarks;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.reactivecommons.utils.ObjectMapperImp;
+
+import co.com.crediya.cy_authentication.model.role.Role;
+import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.r2dbc.entity.RoleEntity;
+import co.com.crediya.cy_authentication.r2dbc.entity.UserEntity;
+import co.com.crediya.cy_authentication.r2dbc.mapper.RoleEntityMapper;
+import co.com.crediya.cy_authentication.r2dbc.mapper.UserEntityMapper;
+
+/**
+ * Compara el mapeo por reflexión (ObjectMapperImp, usado antes por los adaptadores) con los
+ * mappers generados. Para medir asignaciones por fila ejecutar con -PjmhProfilers=gc.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityMappingBenchmark {
+
+    private ObjectMapperImp reflectionMapper;
+    private UserEntityMapper userMapper;
+    private RoleEntityMapper roleMapper;
+    private User user;
+    private UserEntity userEntity;
+    private Role role;
+    private RoleEntity roleEntity;
+
+    @Setup
+    public void setUp() {
+        reflectionMapper = new ObjectMapperImp();
+        userMapper = Mappers.getMapper(UserEntityMapper.class);
+        roleMapper = Mappers.getMapper(RoleEntityMapper.class);
+
+        user = User.builder()
+            .id(BigInteger.ONE)
+            .idNumber(10_000_000L)
+            .idTypeId(1)
+            .name("John")
+            .lastname("Doe")
+            .birthDate(LocalDate.of(1990, 1, 1))
+            .email("john.doe@example.com")
+            .baseSalary(3_000_000.0)
+            .roleId(3)
+            .password("hash")
+            .version(0L)
+            .build();
+        userEntity = userMapper.toData(user);
+        role = Role.builder().id(3).name("CLIENTE").description("Cliente").build();
+        roleEntity = roleMapper.toData(role);
+    }
+
+    @Benchmark
+    public UserEntity reflectionUserToData() {
+        return reflectionMapper.map(user, UserEntity.class);
+    }
+
+    @Benchmark
+    public UserEntity generatedUserToData() {
+        return userMapper.toData(user);
+    }
+
+    @Benchmark
+    public User reflectionUserToEntity() {
+        return reflectionMapper.map(userEntity, User.class);
+    }
+
+    @Benchmark
+    public User generatedUserToEntity() {
+        return userMapper.toEntity(userEntity);
+    }
+
+    @Benchmark
+    public Role reflectionRoleToEntity() {
+        return reflectionMapper.map(roleEntity, Role.class);
+    }
+
+    @Benchmark
+    public Role generatedRoleToEntity() {
+        return roleMapper.toEntity(roleEntity);
+    }
+}
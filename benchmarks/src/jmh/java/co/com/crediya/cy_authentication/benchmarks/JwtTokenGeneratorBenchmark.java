@@ -0,0 +1,53 @@
+package co.com.crediya.cy_authentication.benchmarks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import co.com.crediya.cy_authentication.api.config.JwtTokenGenerator;
+import co.com.crediya.cy_authentication.api.config.RolesEnum;
+import co.com.crediya.cy_authentication.model.security.TokenData;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenGeneratorBenchmark {
+
+    private static final String SECRET = "0123456789ABCDEF0123456789ABCDEF";
+    private static final List<Integer> ROLES = List.of(1);
+    private static final Duration TTL = Duration.ofHours(4);
+
+    private JwtTokenGenerator generator;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        generator = new JwtTokenGenerator(SECRET);
+        token = generator.generate("1", ROLES, TTL);
+    }
+
+    @Benchmark
+    public String generate() {
+        return generator.generate("1", ROLES, TTL);
+    }
+
+    @Benchmark
+    public Optional<TokenData> verify() {
+        return generator.verify(token);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public String roleNameById() {
+        return RolesEnum.getRoleById(3);
+    }
+}
@@ -0,0 +1,55 @@
+package co.com.crediya.cy_authentication.benchmarks;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import co.com.crediya.cy_authentication.api.config.JwtReactiveAuthenticationManager;
+import co.com.crediya.cy_authentication.api.config.JwtTokenGenerator;
+import co.com.crediya.cy_authentication.api.config.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "0123456789ABCDEF0123456789ABCDEF";
+
+    private JwtReactiveAuthenticationManager inlineManager;
+    private JwtReactiveAuthenticationManager boundedElasticManager;
+    private Authentication request;
+
+    @Setup
+    public void setUp() {
+        JwtTokenGenerator generator = new JwtTokenGenerator(SECRET);
+        String token = generator.generate("1", List.of(1), Duration.ofHours(4));
+        request = new UsernamePasswordAuthenticationToken(token, token);
+
+        // Cache de tamaño 0 para medir siempre la verificación y no el acierto en cache
+        inlineManager = new JwtReactiveAuthenticationManager(
+            generator, new VerifiedTokenCache(0, new SimpleMeterRegistry()), false);
+        boundedElasticManager = new JwtReactiveAuthenticationManager(
+            generator, new VerifiedTokenCache(0, new SimpleMeterRegistry()), true);
+    }
+
+    @Benchmark
+    public Authentication inlineVerification() {
+        return inlineManager.authenticate(request).block();
+    }
+
+    @Benchmark
+    public Authentication boundedElasticVerification() {
+        return boundedElasticManager.authenticate(request).block();
+    }
+}
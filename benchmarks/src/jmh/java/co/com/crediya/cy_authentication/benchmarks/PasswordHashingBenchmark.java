@@ -0,0 +1,66 @@
+package co.com.crediya.cy_authentication.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import co.com.crediya.cy_authentication.api.config.AdaptivePasswordEncoder;
+import co.com.crediya.cy_authentication.api.config.BCryptPasswordHasher;
+import co.com.crediya.cy_authentication.api.config.PasswordHashingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordHashingBenchmark {
+
+    private static final String RAW = "SuperSecret123!";
+
+    @Param({"10", "11", "12"})
+    public int bcryptStrength;
+
+    private AdaptivePasswordEncoder bcrypt;
+    private AdaptivePasswordEncoder argon2id;
+    private String bcryptHash;
+    private String argon2Hash;
+    private PasswordHashingExecutor hashingExecutor;
+    private BCryptPasswordHasher hasher;
+
+    @Setup
+    public void setUp() {
+        bcrypt = AdaptivePasswordEncoder.bcrypt(bcryptStrength);
+        bcryptHash = bcrypt.encode(RAW);
+        argon2id = AdaptivePasswordEncoder.argon2id(16384, 2, 1);
+        argon2Hash = argon2id.encode(RAW);
+        hashingExecutor = new PasswordHashingExecutor(1, 1, new SimpleMeterRegistry());
+        hasher = new BCryptPasswordHasher(bcrypt, hashingExecutor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        hashingExecutor.destroy();
+    }
+
+    @Benchmark
+    public boolean bcryptMatches() {
+        return bcrypt.matches(RAW, bcryptHash);
+    }
+
+    @Benchmark
+    public boolean passwordHasherMatches() {
+        return hasher.matches(RAW, bcryptHash);
+    }
+
+    @Benchmark
+    public boolean argon2idMatches() {
+        return argon2id.matches(RAW, argon2Hash);
+    }
+}
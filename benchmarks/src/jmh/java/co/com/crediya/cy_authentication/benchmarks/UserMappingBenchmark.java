@@ -0,0 +1,52 @@
+package co.com.crediya.cy_authentication.benchmarks;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import co.com.crediya.cy_authentication.api.dto.UserDTO;
+import co.com.crediya.cy_authentication.api.mapper.UserDTOMapper;
+import co.com.crediya.cy_authentication.model.idtype.IdType;
+import co.com.crediya.cy_authentication.model.role.Role;
+import co.com.crediya.cy_authentication.model.user.record.UserRecord;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserMappingBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int users;
+
+    private UserDTOMapper dtoMapper;
+    private List<UserRecord> records;
+
+    @Setup
+    public void setUp() {
+        dtoMapper = Mappers.getMapper(UserDTOMapper.class);
+
+        IdType idType = IdType.builder().id(1).name("Cédula de Ciudadanía").build();
+        Role role = Role.builder().id(3).name("CLIENTE").build();
+        records = IntStream.range(0, users)
+            .mapToObj(i -> new UserRecord(BigInteger.valueOf(i), 10_000_000L + i, idType, "John", "Doe",
+                LocalDate.of(1990, 1, 1), "Calle 1", "3000000000", "user" + i + "@example.com", 3_000_000.0, role, 0L))
+            .toList();
+    }
+
+    @Benchmark
+    public List<UserDTO> dtoMapperToResponseList() {
+        return dtoMapper.toResponseList(records);
+    }
+}
@@ -0,0 +1,90 @@
+package co.com.crediya.cy_authentication.benchmarks;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.r2dbc.entity.UserEntity;
+import co.com.crediya.cy_authentication.r2dbc.mapper.UserEntityMapper;
+import co.com.crediya.cy_authentication.r2dbc.mapper.UserRowMapper;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+/**
+ * Compara la lectura Row -> UserEntity -> User (camino anterior de los adaptadores) con la
+ * decodificación directa Row -> User. Ejecutar con -PjmhProfilers=gc para ver asignaciones por fila.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserRowDecodingBenchmark {
+
+    private UserEntityMapper entityMapper;
+    private Row row;
+
+    @Setup
+    public void setUp() {
+        entityMapper = Mappers.getMapper(UserEntityMapper.class);
+        row = new ArrayRow(new Object[] {
+            BigInteger.ONE, 10_000_000L, 1, "John", "Doe", LocalDate.of(1990, 1, 1), "Calle 1", "3000000000",
+            "john.doe@example.com", 3_000_000.0, 3, 0L
+        });
+    }
+
+    @Benchmark
+    public User throughEntity() {
+        UserEntity entity = new UserEntity();
+        entity.setId(row.get(0, BigInteger.class));
+        entity.setIdNumber(row.get(1, Long.class));
+        entity.setIdTypeId(row.get(2, Integer.class));
+        entity.setName(row.get(3, String.class));
+        entity.setLastname(row.get(4, String.class));
+        entity.setBirthDate(row.get(5, LocalDate.class));
+        entity.setAddress(row.get(6, String.class));
+        entity.setPhone(row.get(7, String.class));
+        entity.setEmail(row.get(8, String.class));
+        entity.setBaseSalary(row.get(9, Double.class));
+        entity.setRoleId(row.get(10, Integer.class));
+        entity.setVersion(row.get(11, Long.class));
+        return entityMapper.toEntity(entity);
+    }
+
+    @Benchmark
+    public User direct() {
+        return UserRowMapper.toUser(row, null);
+    }
+
+    // Fila en memoria: aísla el costo del mapeo del costo de decodificar el protocolo de Postgres
+    private static final class ArrayRow implements Row {
+        private final Object[] values;
+
+        private ArrayRow(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public <T> T get(int index, Class<T> type) {
+            return type.cast(values[index]);
+        }
+
+        @Override
+        public <T> T get(String name, Class<T> type) {
+            throw new UnsupportedOperationException(name);
+        }
+
+        @Override
+        public RowMetadata getMetadata() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package co.com.crediya.cy_authentication.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import co.com.crediya.cy_authentication.model.idtype.gateways.IdTypeRepository;
+import co.com.crediya.cy_authentication.model.role.gateways.RoleRepository;
+import co.com.crediya.cy_authentication.model.security.gateways.PasswordHasher;
+import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.model.user.gateways.UserRepository;
+import co.com.crediya.cy_authentication.usecase.user.UserUseCase;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * validateUserData es privado: se mide a través de saveUser con gateways que responden vacío,
+ * de modo que el flujo termina justo después de la validación.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserValidationBenchmark {
+
+    private UserUseCase userUseCase;
+    private User validUser;
+    private User invalidEmailUser;
+
+    @Setup
+    public void setUp() {
+        userUseCase = new UserUseCase(
+            emptyGateway(UserRepository.class),
+            emptyGateway(IdTypeRepository.class),
+            emptyGateway(RoleRepository.class),
+            emptyGateway(PasswordHasher.class)
+        );
+
+        validUser = User.builder()
+            .id(BigInteger.ONE)
+            .idNumber(10_000_000L)
+            .idTypeId(1)
+            .name("John")
+            .lastname("Doe")
+            .birthDate(LocalDate.of(1990, 1, 1))
+            .email("john.doe.with.a.longer.local.part@subdomain.example.com")
+            .baseSalary(3_000_000.0)
+            .roleId(3)
+            .password("SuperSecret123!")
+            .build();
+        invalidEmailUser = validUser.toBuilder().email("john.doe.with.a.longer.local.part@@example").build();
+    }
+
+    @Benchmark
+    public Throwable validUser() {
+        return userUseCase.saveUser(Mono.just(validUser.toBuilder().build()))
+            .materialize()
+            .block()
+            .getThrowable();
+    }
+
+    @Benchmark
+    public Throwable invalidEmail() {
+        return userUseCase.saveUser(Mono.just(invalidEmailUser.toBuilder().build()))
+            .materialize()
+            .block()
+            .getThrowable();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T emptyGateway(Class<T> gateway) {
+        return (T) Proxy.newProxyInstance(gateway.getClassLoader(), new Class<?>[] {gateway}, (proxy, method, args) -> {
+            if (Flux.class.equals(method.getReturnType())) {
+                return Flux.empty();
+            }
+            if (Mono.class.equals(method.getReturnType())) {
+                return Mono.empty();
+            }
+            if (boolean.class.equals(method.getReturnType())) {
+                return false;
+            }
+            return null;
+        });
+    }
+}
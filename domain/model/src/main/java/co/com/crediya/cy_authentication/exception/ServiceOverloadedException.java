@@ -0,0 +1,15 @@
+package co.com.crediya.cy_authentication.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException() {
+        super("El servicio está temporalmente sobrecargado, intente nuevamente en unos segundos");
+    }
+    
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+    
+    public ServiceOverloadedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,15 @@
+package co.com.crediya.cy_authentication.exception;
+
+public class UserVersionConflictException extends RuntimeException {
+    public UserVersionConflictException() {
+        super("User version conflict");
+    }
+
+    public UserVersionConflictException(String message) {
+        super(message);
+    }
+
+    public UserVersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
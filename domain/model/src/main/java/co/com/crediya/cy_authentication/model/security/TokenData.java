@@ -1,5 +1,6 @@
 package co.com.crediya.cy_authentication.model.security;
 
+import java.time.Instant;
 import java.util.List;
 
 import lombok.Getter;
@@ -12,4 +13,5 @@ import lombok.Setter;
 public class TokenData {
     private final String subject;
     private final List<Integer> roles;
+    private Instant expiresAt;
 }
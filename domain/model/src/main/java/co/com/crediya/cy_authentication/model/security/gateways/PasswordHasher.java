@@ -1,6 +1,11 @@
 package co.com.crediya.cy_authentication.model.security.gateways;
 
+import reactor.core.publisher.Mono;
+
 public interface PasswordHasher {
     String hash(String raw);
     boolean matches(String raw, String hashed);
+    boolean needsRehash(String hashed);
+    Mono<String> hashAsync(String raw);
+    Mono<Boolean> matchesAsync(String raw, String hashed);
 }
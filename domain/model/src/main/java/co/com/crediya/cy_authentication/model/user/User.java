@@ -29,4 +29,5 @@ public class User {
     private Double baseSalary;
     private Integer roleId;
     private String password;
+    private Long version;
 }
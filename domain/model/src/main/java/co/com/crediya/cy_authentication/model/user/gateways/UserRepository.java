@@ -4,18 +4,28 @@ import java.math.BigInteger;
 import java.util.List;
 
 import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.model.user.record.UserCreation;
+import co.com.crediya.cy_authentication.model.user.record.UserCredentials;
+import co.com.crediya.cy_authentication.model.user.record.UserPageItem;
+import co.com.crediya.cy_authentication.model.user.record.UserPageQuery;
+import co.com.crediya.cy_authentication.model.user.record.UserSummary;
+import co.com.crediya.cy_authentication.model.user.record.UserUpdate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public interface UserRepository {
-    Mono<User> saveUser(Mono<User> user);
+    Mono<UserCreation> createUser(User user);
+    Flux<UserCreation> createUsers(List<User> users);
     Flux<User> getAllUsers();
-    Flux<User> findUsersByEmails(List<String> userEmails);
-    Mono<User> getByIdNumber(Long idNumber);
-    Mono<User> getByEmail(String email);
-    Mono<User> getById(BigInteger id);
-    Mono<User> editUser(Mono<User> user);
+    Flux<UserPageItem> findUsersPage(UserPageQuery query);
+    Flux<UserSummary> findUsersByEmails(List<String> userEmails);
+    Flux<UserSummary> findUsersByIdNumbers(List<Long> idNumbers);
+    Mono<UserSummary> getByIdNumber(Long idNumber);
+    Mono<UserSummary> getByEmail(String email);
+    Mono<UserCredentials> findCredentialsByEmail(String email);
+    Mono<UserSummary> getById(BigInteger id);
+    Mono<UserUpdate> updateUser(User changes);
+    Mono<Void> updatePassword(BigInteger id, String hashedPassword);
     Mono<Void> deleteUser(Long idNumber);
-    Mono<User> findByEmailOrIdNumber(String email, Long idNumber);
-    Mono<Boolean> existByIdNumber(Long idNumber);
+    Flux<Long> deleteUsers(List<Long> idNumbers);
 }
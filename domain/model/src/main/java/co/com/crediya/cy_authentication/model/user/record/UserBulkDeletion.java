@@ -0,0 +1,8 @@
+package co.com.crediya.cy_authentication.model.user.record;
+
+import java.util.List;
+
+public record UserBulkDeletion (
+    List<Long> deleted,
+    List<Long> notFound
+) {}
@@ -0,0 +1,21 @@
+package co.com.crediya.cy_authentication.model.user.record;
+
+import co.com.crediya.cy_authentication.model.user.User;
+
+public record UserCreation (
+    User user,
+    boolean emailTaken,
+    boolean idNumberTaken
+) {
+    public static UserCreation created(User user) {
+        return new UserCreation(user, false, false);
+    }
+
+    public static UserCreation conflict(boolean emailTaken, boolean idNumberTaken) {
+        return new UserCreation(null, emailTaken, idNumberTaken);
+    }
+
+    public boolean isCreated() {
+        return user != null;
+    }
+}
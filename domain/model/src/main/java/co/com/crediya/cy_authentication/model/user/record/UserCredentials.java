@@ -0,0 +1,9 @@
+package co.com.crediya.cy_authentication.model.user.record;
+
+import java.math.BigInteger;
+
+public record UserCredentials (
+    BigInteger id,
+    String password,
+    Integer roleId
+) {}
@@ -0,0 +1,28 @@
+package co.com.crediya.cy_authentication.model.user.record;
+
+import java.math.BigInteger;
+
+public record UserImportResult (
+    long row,
+    Long idNumber,
+    String email,
+    Status status,
+    BigInteger id,
+    String message
+) {
+    public enum Status {
+        CREATED, REJECTED, DUPLICATE
+    }
+
+    public static UserImportResult created(long row, Long idNumber, String email, BigInteger id) {
+        return new UserImportResult(row, idNumber, email, Status.CREATED, id, null);
+    }
+
+    public static UserImportResult rejected(long row, Long idNumber, String email, String message) {
+        return new UserImportResult(row, idNumber, email, Status.REJECTED, null, message);
+    }
+
+    public static UserImportResult duplicate(long row, Long idNumber, String email, String message) {
+        return new UserImportResult(row, idNumber, email, Status.DUPLICATE, null, message);
+    }
+}
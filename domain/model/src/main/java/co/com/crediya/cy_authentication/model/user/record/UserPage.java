@@ -0,0 +1,13 @@
+package co.com.crediya.cy_authentication.model.user.record;
+
+import java.math.BigInteger;
+import java.util.List;
+
+public record UserPage (
+    List<UserPageItem> users,
+    BigInteger nextAfterId
+) {
+    public boolean hasMore() {
+        return nextAfterId != null;
+    }
+}
@@ -0,0 +1,16 @@
+package co.com.crediya.cy_authentication.model.user.record;
+
+import java.math.BigInteger;
+
+// Proyección del listado paginado: solo las columnas que muestra la página, nunca la contraseña
+public record UserPageItem(
+    BigInteger id,
+    Long idNumber,
+    Integer idTypeId,
+    String name,
+    String lastname,
+    String email,
+    Double baseSalary,
+    Integer roleId,
+    Long version
+) {}
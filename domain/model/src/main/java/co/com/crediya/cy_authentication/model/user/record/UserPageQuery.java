@@ -0,0 +1,10 @@
+package co.com.crediya.cy_authentication.model.user.record;
+
+import java.math.BigInteger;
+
+public record UserPageQuery (
+    BigInteger afterId,
+    int limit,
+    Integer roleId,
+    Integer idTypeId
+) {}
@@ -18,5 +18,5 @@ public record UserRecord (
     String email,
     Double baseSalary,
     Role role,
-    String password
+    Long version
 ) {}
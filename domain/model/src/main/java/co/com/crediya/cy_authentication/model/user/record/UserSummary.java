@@ -0,0 +1,10 @@
+package co.com.crediya.cy_authentication.model.user.record;
+
+// Vista reducida para consultas de información básica: no incluye la contraseña ni los datos de contacto
+public record UserSummary(
+    Long idNumber,
+    String name,
+    String lastname,
+    String email,
+    Double baseSalary
+) {}
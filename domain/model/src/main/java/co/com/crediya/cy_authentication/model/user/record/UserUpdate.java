@@ -0,0 +1,27 @@
+package co.com.crediya.cy_authentication.model.user.record;
+
+import co.com.crediya.cy_authentication.model.user.User;
+
+public record UserUpdate (
+    User user,
+    boolean idNumberFound,
+    boolean emailFound,
+    Long currentVersion
+) {
+    public static UserUpdate updated(User user) {
+        return new UserUpdate(user, true, true, user.getVersion());
+    }
+
+    public static UserUpdate rejected(boolean idNumberFound, boolean emailFound, Long currentVersion) {
+        return new UserUpdate(null, idNumberFound, emailFound, currentVersion);
+    }
+
+    public boolean isUpdated() {
+        return user != null;
+    }
+
+    // La fila existe con ese número de identificación y correo, pero su versión ya no es la esperada
+    public boolean isVersionConflict() {
+        return user == null && currentVersion != null;
+    }
+}
@@ -3,53 +3,65 @@ package co.com.crediya.cy_authentication.usecase.authenticateuser;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
+import reactor.util.Logger;
+import reactor.util.Loggers;
 
 import java.time.Duration;
 import java.util.List;
 
 import co.com.crediya.cy_authentication.exception.InvalidCredentialsException;
-import co.com.crediya.cy_authentication.model.role.gateways.RoleRepository;
 import co.com.crediya.cy_authentication.model.security.JwtToken;
 import co.com.crediya.cy_authentication.model.security.TokenData;
 import co.com.crediya.cy_authentication.model.security.gateways.PasswordHasher;
 import co.com.crediya.cy_authentication.model.security.gateways.TokenGenerator;
 import co.com.crediya.cy_authentication.model.user.gateways.UserRepository;
+import co.com.crediya.cy_authentication.model.user.record.UserCredentials;
 
 @RequiredArgsConstructor
-public final class AuthenticateUserUseCase {
+public class AuthenticateUserUseCase {
+    private static final Logger log = Loggers.getLogger(AuthenticateUserUseCase.class);
+
     private final UserRepository userRepository;
-    private final RoleRepository roleRepository;
     private final PasswordHasher passwordHasher;
     private final TokenGenerator tokenGenerator;
 
     public Mono<JwtToken> handle(String username, String password) {
-        return userRepository.getByEmail(username)
+        return userRepository.findCredentialsByEmail(username)
             .switchIfEmpty(Mono.error(new InvalidCredentialsException("Credenciales inválidas")))
-            .flatMap(toValidate ->
-                roleRepository.getRoleById(toValidate.getRoleId())
-                    .flatMap(role ->
-                        Mono.fromCallable(() -> passwordHasher.matches(password, toValidate.getPassword()))
-                            .subscribeOn(Schedulers.boundedElastic())
-                            .flatMap(matches -> {
-                                if (!matches) {
-                                    return Mono.error(new InvalidCredentialsException("Credenciales inválidas"));
-                                } else {
-                                    String token = tokenGenerator.generate(
-                                        toValidate.getId().toString(),
-                                        List.of(role.getId()),
-                                        Duration.ofHours(4)
-                                    );
-                                    
-                                    return Mono.just(new JwtToken(token));
-                                }
-                            })
-                    )
+            .flatMap(credentials ->
+                passwordHasher.matchesAsync(password, credentials.password())
+                    .flatMap(matches -> {
+                        if (!matches) {
+                            return Mono.error(new InvalidCredentialsException("Credenciales inválidas"));
+                        } else {
+                            String token = tokenGenerator.generate(
+                                credentials.id().toString(),
+                                List.of(credentials.roleId()),
+                                Duration.ofHours(4)
+                            );
+
+                            rehashInBackground(credentials, password);
+                            return Mono.just(new JwtToken(token));
+                        }
+                    })
             );
     }
 
+    // Fire-and-forget explícito: la respuesta del login no espera el hashing ni la escritura, y un fallo solo se registra
+    private void rehashInBackground(UserCredentials credentials, String rawPassword) {
+        if (!passwordHasher.needsRehash(credentials.password())) {
+            return;
+        }
+        passwordHasher.hashAsync(rawPassword)
+            .flatMap(rehashed -> userRepository.updatePassword(credentials.id(), rehashed))
+            .subscribeOn(Schedulers.parallel())
+            .doOnError(ex -> log.warn("Password rehash failed for user {}: {}", credentials.id(), ex.getMessage()))
+            .onErrorComplete()
+            .subscribe();
+    }
+
     public Mono<TokenData> extractTokenData(String token) {
         return Mono.fromCallable(() -> tokenGenerator.verify(token))
-            .subscribeOn(Schedulers.boundedElastic())
             .map(tokenData -> tokenData.get());
     }
 }
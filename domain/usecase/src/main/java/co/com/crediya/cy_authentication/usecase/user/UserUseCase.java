@@ -1,11 +1,18 @@
 package co.com.crediya.cy_authentication.usecase.user;
 
 import java.math.BigInteger;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import co.com.crediya.cy_authentication.exception.InvalidUserDataException;
+import co.com.crediya.cy_authentication.exception.ServiceOverloadedException;
+import co.com.crediya.cy_authentication.exception.UserVersionConflictException;
 import co.com.crediya.cy_authentication.model.idtype.IdType;
 import co.com.crediya.cy_authentication.model.idtype.gateways.IdTypeRepository;
 import co.com.crediya.cy_authentication.model.role.Role;
@@ -13,11 +20,19 @@ import co.com.crediya.cy_authentication.model.role.gateways.RoleRepository;
 import co.com.crediya.cy_authentication.model.security.gateways.PasswordHasher;
 import co.com.crediya.cy_authentication.model.user.User;
 import co.com.crediya.cy_authentication.model.user.gateways.UserRepository;
+import co.com.crediya.cy_authentication.model.user.record.UserBulkDeletion;
+import co.com.crediya.cy_authentication.model.user.record.UserCreation;
+import co.com.crediya.cy_authentication.model.user.record.UserImportResult;
+import co.com.crediya.cy_authentication.model.user.record.UserPage;
+import co.com.crediya.cy_authentication.model.user.record.UserPageItem;
+import co.com.crediya.cy_authentication.model.user.record.UserPageQuery;
 import co.com.crediya.cy_authentication.model.user.record.UserRecord;
+import co.com.crediya.cy_authentication.model.user.record.UserSummary;
+import co.com.crediya.cy_authentication.model.user.record.UserUpdate;
 import lombok.RequiredArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
 
 @RequiredArgsConstructor
 public class UserUseCase {
@@ -31,11 +46,17 @@ public class UserUseCase {
     );
     private static final double MIN_SALARY = 0.0;
     private static final double MAX_SALARY = 15000000.0;
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    private static final int IMPORT_HASH_RETRIES = 3;
+    private static final Duration IMPORT_HASH_BACKOFF = Duration.ofMillis(50);
 
     private enum Mode {
         CREATE, UPDATE
     }
 
+    private record ImportRow(long row, User user, UserImportResult rejection) {}
+
     public Mono<UserRecord> saveUser(Mono<User> user) {
         return user.flatMap(toValidate -> validateUserData(Mono.just(toValidate), Mode.CREATE))
             .flatMap(validUser ->
@@ -43,36 +64,32 @@ public class UserUseCase {
                     idTypeRepository.getIdTypeById(validUser.getIdTypeId())
                         .switchIfEmpty(Mono.error(new InvalidUserDataException("No existe un tipo identificación con id " + validUser.getIdTypeId()))),
                     roleRepository.getRoleById(validUser.getRoleId())
-                        .switchIfEmpty(Mono.error(new InvalidUserDataException("No existe un rol con id " + validUser.getRoleId()))),
-                    validateUserUniqueness(
-                        userRepository.findByEmailOrIdNumber(validUser.getEmail(), validUser.getIdNumber()),
-                        Mono.just(validUser),
-                        Mode.CREATE
-                    )
+                        .switchIfEmpty(Mono.error(new InvalidUserDataException("No existe un rol con id " + validUser.getRoleId())))
                 )
                 .flatMap(params -> {
                     IdType idType = params.getT1();
                     Role role = params.getT2();
-                    User toSave = params.getT3();
-
-                    return Mono.fromCallable(() -> passwordHasher.hash(toSave.getPassword()))
-                        .subscribeOn(Schedulers.boundedElastic())
-                        .map(hashed -> { toSave.setPassword(hashed); return toSave; })
-                        .flatMap(newUser -> userRepository.saveUser(Mono.just(newUser))
-                            .map(savedUser -> new UserRecord(
-                                savedUser.getId(),
-                                savedUser.getIdNumber(),
-                                idType,
-                                savedUser.getName(),
-                                savedUser.getLastname(),
-                                savedUser.getBirthDate(),
-                                savedUser.getAddress(),
-                                savedUser.getPhone(),
-                                savedUser.getEmail(),
-                                savedUser.getBaseSalary(),
-                                role,
-                                savedUser.getPassword()))
-                        );
+
+                    // La unicidad la garantizan las restricciones UNIQUE de la tabla: un solo INSERT sin consulta previa
+                    return passwordHasher.hashAsync(validUser.getPassword())
+                        .map(hashed -> { validUser.setPassword(hashed); return validUser; })
+                        .flatMap(userRepository::createUser)
+                        .flatMap(creation -> creation.isCreated()
+                            ? Mono.just(creation.user())
+                            : Mono.<User>error(new InvalidUserDataException(duplicateUserMessage(creation.emailTaken(), creation.idNumberTaken()))))
+                        .map(savedUser -> new UserRecord(
+                            savedUser.getId(),
+                            savedUser.getIdNumber(),
+                            idType,
+                            savedUser.getName(),
+                            savedUser.getLastname(),
+                            savedUser.getBirthDate(),
+                            savedUser.getAddress(),
+                            savedUser.getPhone(),
+                            savedUser.getEmail(),
+                            savedUser.getBaseSalary(),
+                            role,
+                            savedUser.getVersion()));
                 })
             );
     }
@@ -98,61 +115,70 @@ public class UserUseCase {
                         user.getEmail(),
                         user.getBaseSalary(),
                         roleMap.get(user.getRoleId()),
-                        user.getPassword()));
+                        user.getVersion()));
+            });
+    }
+
+    public Mono<UserPage> getUsersPage(BigInteger afterId, Integer size, Integer roleId, Integer idTypeId) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            return Mono.error(new InvalidUserDataException(
+                String.format("El tamaño de página debe estar entre 1 y %d", MAX_PAGE_SIZE)));
+        }
+
+        // Se pide un registro extra para saber si existe una página siguiente sin hacer un COUNT
+        UserPageQuery query = new UserPageQuery(afterId, pageSize + 1, roleId, idTypeId);
+
+        // La página usa su propia proyección con los ids de rol y tipo: no pasa por UserRecord ni resuelve catálogos
+        return userRepository.findUsersPage(query)
+            .collectList()
+            .map(rows -> {
+                boolean hasMore = rows.size() > pageSize;
+                List<UserPageItem> users = hasMore ? rows.subList(0, pageSize) : rows;
+
+                return new UserPage(users, hasMore ? users.get(pageSize - 1).id() : null);
             });
     }
 
-    public Flux<UserRecord> getUsersByEmail(List<String> userEmails) {
+    public Flux<UserSummary> getUsersByEmail(List<String> userEmails) {
         if (userEmails == null || userEmails.isEmpty()) {
             return Flux.empty();
         }
 
-        return Flux.zip(
+        return userRepository.findUsersByEmails(userEmails);
+    }
+
+    public Flux<UserImportResult> importUsers(Flux<User> users, int batchSize, int hashConcurrency) {
+        return Mono.zip(
             idTypeRepository.getAllIdTypes().collectMap(IdType::getId),
             roleRepository.getAllRoles().collectMap(Role::getId)
         )
-        .flatMap(params -> {
+        .flatMapMany(params -> {
             Map<Integer, IdType> idTypesMap = params.getT1();
             Map<Integer, Role> rolesMap = params.getT2();
+            Set<Long> seenIdNumbers = new HashSet<>();
+            Set<String> seenEmails = new HashSet<>();
 
-            return userRepository.findUsersByEmails(userEmails)
-                .map(user -> new UserRecord(
-                    user.getId(),
-                    user.getIdNumber(),
-                    idTypesMap.get(user.getIdTypeId()),
-                    user.getName(),
-                    user.getLastname(),
-                    user.getBirthDate(),
-                    user.getAddress(),
-                    user.getPhone(),
-                    user.getEmail(),
-                    user.getBaseSalary(),
-                    rolesMap.get(user.getRoleId()),
-                    user.getPassword()
-                ));
+            // Las filas se validan en orden, los hashes se calculan en paralelo acotado y se insertan por lotes
+            return users
+                .index()
+                .concatMap(indexed -> prepareImportRow(indexed.getT1() + 1, indexed.getT2(), idTypesMap, rolesMap, seenIdNumbers, seenEmails))
+                .flatMapSequential(row -> row.rejection() != null ? Mono.just(row) : hashImportRow(row), hashConcurrency)
+                .buffer(batchSize)
+                .concatMap(this::insertImportBatch);
         });
     }
 
-    public Mono<UserRecord> getByIdNumber(Long idNumber) {
-        return userRepository.getByIdNumber(idNumber)
-            .flatMap(user ->
-                idTypeRepository.getIdTypeById(user.getIdTypeId())
-                    .zipWith(roleRepository.getRoleById(user.getRoleId()))
-                    .map(params -> new UserRecord(
-                        user.getId(),
-                        user.getIdNumber(),
-                        params.getT1(),
-                        user.getName(),
-                        user.getLastname(),
-                        user.getBirthDate(),
-                        user.getAddress(),
-                        user.getPhone(),
-                        user.getEmail(),
-                        user.getBaseSalary(),
-                        params.getT2(),
-                        user.getPassword()
-                    ))
-        );
+    public Flux<UserSummary> streamUsersByEmail(Flux<String> userEmails, int chunkSize, int concurrency) {
+        // Los lotes se consultan en paralelo y cada resultado se emite apenas llega, sin esperar al resto
+        return userEmails
+            .distinct()
+            .buffer(chunkSize)
+            .flatMap(userRepository::findUsersByEmails, concurrency);
+    }
+
+    public Mono<UserSummary> getByIdNumber(Long idNumber) {
+        return userRepository.getByIdNumber(idNumber);
     }
 
     public Mono<UserRecord> editUser(Mono<User> user) {
@@ -162,31 +188,25 @@ public class UserUseCase {
                     idTypeRepository.getIdTypeById(validUser.getIdTypeId())
                         .switchIfEmpty(Mono.error(new InvalidUserDataException("No existe un tipo identificación con id " + validUser.getIdTypeId()))),
                     roleRepository.getRoleById(validUser.getRoleId())
-                        .switchIfEmpty(Mono.error(new InvalidUserDataException("No existe un rol con id " + validUser.getRoleId()))),
-                    validateUserUniqueness(
-                        userRepository.findByEmailOrIdNumber(validUser.getEmail(), validUser.getIdNumber())
-                            .switchIfEmpty(Mono.error(new InvalidUserDataException("No existe un usuario con los datos proporcionados"))),
-                        Mono.just(validUser),
-                        Mode.UPDATE
-                    )
+                        .switchIfEmpty(Mono.error(new InvalidUserDataException("No existe un rol con id " + validUser.getRoleId())))
                 )
-                .flatMap(params ->{
+                .flatMap(params -> {
                     IdType idType = params.getT1();
                     Role role = params.getT2();
-                    User toEdit = params.getT3();
 
-                    updateUserFields(toEdit, validUser);
-                    
                     boolean hasNewPassword = validUser.getPassword() != null && !validUser.getPassword().isBlank();
 
-                    Mono<User> applyPasswordMono = hasNewPassword
-                        ? Mono.fromCallable(() -> passwordHasher.hash(validUser.getPassword()))
-                            .subscribeOn(Schedulers.boundedElastic())
-                            .map(hashed -> { toEdit.setPassword(hashed); return toEdit; })
-                        : Mono.just(toEdit);
+                    // Sin contraseña nueva se envía null y el UPDATE conserva el hash actual
+                    Mono<User> changesMono = hasNewPassword
+                        ? passwordHasher.hashAsync(validUser.getPassword())
+                            .map(hashed -> { validUser.setPassword(hashed); return validUser; })
+                        : Mono.fromSupplier(() -> { validUser.setPassword(null); return validUser; });
 
-                    return applyPasswordMono
-                        .flatMap(editedUser -> userRepository.editUser(Mono.just(editedUser)))
+                    return changesMono
+                        .flatMap(userRepository::updateUser)
+                        .flatMap(update -> update.isUpdated()
+                            ? Mono.just(update.user())
+                            : Mono.<User>error(updateRejection(update)))
                         .map(updated -> new UserRecord(
                             updated.getId(),
                             updated.getIdNumber(),
@@ -199,7 +219,7 @@ public class UserUseCase {
                             updated.getEmail(),
                             updated.getBaseSalary(),
                             role,
-                            updated.getPassword()
+                            updated.getVersion()
                         ));
                 })
             );
@@ -209,50 +229,33 @@ public class UserUseCase {
         return userRepository.deleteUser(idNumber);
     }
 
-    public Mono<UserRecord> getUserByEmail(String email) {
-        return userRepository.getByEmail(email)
-            .flatMap(user -> Mono.zip(
-                    idTypeRepository.getIdTypeById(user.getIdTypeId()),
-                    roleRepository.getRoleById(user.getRoleId())
-                )
-                .flatMap(params -> Mono.just(new UserRecord(
-                    user.getId(),
-                    user.getIdNumber(),
-                    params.getT1(),
-                    user.getName(),
-                    user.getLastname(),
-                    user.getBirthDate(),
-                    user.getAddress(),
-                    user.getPhone(),
-                    user.getEmail(),
-                    user.getBaseSalary(),
-                    params.getT2(),
-                    user.getPassword()
-                )))
-            );
+    public Mono<UserBulkDeletion> deleteUsers(List<Long> idNumbers, int chunkSize) {
+        if (idNumbers == null || idNumbers.isEmpty()) {
+            return Mono.error(new InvalidUserDataException("Debe enviar al menos un número de identificación"));
+        }
+        if (idNumbers.contains(null)) {
+            return Mono.error(new InvalidUserDataException("Los números de identificación no pueden ser nulos"));
+        }
+
+        List<Long> requested = idNumbers.stream().distinct().toList();
+
+        // Un DELETE por lote; los que no retornan fila no existían
+        return Flux.fromIterable(requested)
+            .buffer(chunkSize)
+            .concatMap(userRepository::deleteUsers)
+            .collect(Collectors.toSet())
+            .map(deleted -> new UserBulkDeletion(
+                requested.stream().filter(deleted::contains).toList(),
+                requested.stream().filter(idNumber -> !deleted.contains(idNumber)).toList()
+            ));
     }
 
-    public Mono<UserRecord> getUserById(BigInteger id) {
-        return userRepository.getById(id)
-            .flatMap(user -> Mono.zip(
-                    idTypeRepository.getIdTypeById(user.getIdTypeId()),
-                    roleRepository.getRoleById(user.getRoleId())
-                )
-                .flatMap(params -> Mono.just(new UserRecord(
-                    user.getId(),
-                    user.getIdNumber(),
-                    params.getT1(),
-                    user.getName(),
-                    user.getLastname(),
-                    user.getBirthDate(),
-                    user.getAddress(),
-                    user.getPhone(),
-                    user.getEmail(),
-                    user.getBaseSalary(),
-                    params.getT2(),
-                    user.getPassword()
-                )))
-            );
+    public Mono<UserSummary> getUserByEmail(String email) {
+        return userRepository.getByEmail(email);
+    }
+
+    public Mono<UserSummary> getUserById(BigInteger id) {
+        return userRepository.getById(id);
     }
 
     private Mono<User> validateUserData(Mono<User> userMono, Mode mode) {
@@ -289,53 +292,104 @@ public class UserUseCase {
             if (mode.equals(Mode.CREATE) && (user.getPassword() == null || user.getPassword().trim().isEmpty())) {
                 return Mono.error(new InvalidUserDataException("La contraseña es requerida"));
             }
+
+            // La columna es NOT NULL y el INSERT la enlaza directamente: sin fecha la sentencia fallaría con un 500
+            if (mode.equals(Mode.CREATE) && user.getBirthDate() == null) {
+                return Mono.error(new InvalidUserDataException("La fecha de nacimiento es requerida"));
+            }
             
             return Mono.just(user);
         });
     }
 
-    private Mono<User> validateUserUniqueness(Mono<User> existingUser, Mono<User> userMono, Mode mode) {
-        return userMono.flatMap(user ->
-            existingUser.flatMap(existing -> {
-                Boolean existingEmail = existing.getEmail().equals(user.getEmail());
-                Boolean existingIdNumber = existing.getIdNumber().equals(user.getIdNumber());
-
-                if (mode.equals(Mode.CREATE)) {
-                    if (existingEmail && existingIdNumber) {
-                        return Mono.error(new InvalidUserDataException("El correo electrónico y el número de identificación ya han sido registrados por otro usuario"));
-                    } else if (existingEmail) {
-                        return Mono.error(new InvalidUserDataException("El correo electrónico ya ha sido registrado por otro usuario"));
-                    } else if (existingIdNumber) {
-                        return Mono.error(new InvalidUserDataException("El número de identificación ya ha sido registrado por otro usuario"));
-                    } else {
-                        return Mono.just(user);
-                    }
-                } else {
-                    if (!existingEmail && !existingIdNumber) {
-                        return Mono.error(new InvalidUserDataException("No se pueden cambiar el correo electrónico ni el número de identificación que ya han sido registrados por el usuario"));
-                    } else if (!existingEmail) {
-                        return Mono.error(new InvalidUserDataException("No se puede cambiar el correo electrónico registrado por el usuario"));
-                    } else if (!existingIdNumber) {
-                        return Mono.error(new InvalidUserDataException("No se puede cambiar el número de identificación registrado por el usuario"));
-                    } else {
-                        return existingUser;
-                    }
+    private Mono<ImportRow> prepareImportRow(long row, User user, Map<Integer, IdType> idTypesMap, Map<Integer, Role> rolesMap,
+                                             Set<Long> seenIdNumbers, Set<String> seenEmails) {
+        return validateUserData(Mono.just(user), Mode.CREATE)
+            .map(valid -> {
+                if (!idTypesMap.containsKey(valid.getIdTypeId())) {
+                    return rejectedRow(row, valid, "No existe un tipo identificación con id " + valid.getIdTypeId());
+                }
+                if (!rolesMap.containsKey(valid.getRoleId())) {
+                    return rejectedRow(row, valid, "No existe un rol con id " + valid.getRoleId());
                 }
+
+                boolean idNumberRepeated = seenIdNumbers.contains(valid.getIdNumber());
+                boolean emailRepeated = seenEmails.contains(valid.getEmail());
+                if (idNumberRepeated || emailRepeated) {
+                    return new ImportRow(row, valid, UserImportResult.duplicate(row, valid.getIdNumber(), valid.getEmail(),
+                        duplicateUserMessage(emailRepeated, idNumberRepeated) + " en el mismo archivo"));
+                }
+                seenIdNumbers.add(valid.getIdNumber());
+                seenEmails.add(valid.getEmail());
+                return new ImportRow(row, valid, null);
             })
-            .switchIfEmpty(Mono.just(user))
-        );
+            .onErrorResume(InvalidUserDataException.class, ex -> Mono.just(rejectedRow(row, user, ex.getMessage())));
+    }
+
+    // Un pool de hashing saturado se reintenta con espera; si persiste, solo esa fila queda rechazada y el resto continúa
+    private Mono<ImportRow> hashImportRow(ImportRow row) {
+        return passwordHasher.hashAsync(row.user().getPassword())
+            .retryWhen(Retry.backoff(IMPORT_HASH_RETRIES, IMPORT_HASH_BACKOFF)
+                .filter(ServiceOverloadedException.class::isInstance)
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+            .map(hashed -> { row.user().setPassword(hashed); return row; })
+            .onErrorResume(ServiceOverloadedException.class, ex -> Mono.just(rejectedRow(row.row(), row.user(),
+                "El servicio está ocupado, no se pudo procesar la contraseña de esta fila")));
+    }
+
+    private static ImportRow rejectedRow(long row, User user, String message) {
+        return new ImportRow(row, user, UserImportResult.rejected(row, user.getIdNumber(), user.getEmail(), message));
+    }
+
+    private Flux<UserImportResult> insertImportBatch(List<ImportRow> batch) {
+        List<User> pending = batch.stream()
+            .filter(row -> row.rejection() == null)
+            .map(ImportRow::user)
+            .toList();
+
+        Mono<List<UserCreation>> creations = pending.isEmpty()
+            ? Mono.just(List.of())
+            : userRepository.createUsers(pending).collectList();
+
+        // createUsers responde en el mismo orden en que recibe los usuarios
+        return creations.flatMapIterable(created -> {
+            Iterator<UserCreation> results = created.iterator();
+            return batch.stream()
+                .map(row -> row.rejection() != null ? row.rejection() : toImportResult(row, results.next()))
+                .toList();
+        });
+    }
+
+    private static UserImportResult toImportResult(ImportRow row, UserCreation creation) {
+        User user = row.user();
+        return creation.isCreated()
+            ? UserImportResult.created(row.row(), user.getIdNumber(), user.getEmail(), creation.user().getId())
+            : UserImportResult.duplicate(row.row(), user.getIdNumber(), user.getEmail(),
+                duplicateUserMessage(creation.emailTaken(), creation.idNumberTaken()));
     }
 
-    private void updateUserFields(User existingUser, User userData) {
-        existingUser.setIdNumber(userData.getIdNumber());
-        existingUser.setIdTypeId(userData.getIdTypeId());
-        existingUser.setName(userData.getName());
-        existingUser.setLastname(userData.getLastname());
-        existingUser.setBirthDate(userData.getBirthDate());
-        existingUser.setAddress(userData.getAddress());
-        existingUser.setPhone(userData.getPhone());
-        existingUser.setEmail(userData.getEmail());
-        existingUser.setBaseSalary(userData.getBaseSalary());
-        existingUser.setRoleId(userData.getRoleId());
+    private static String duplicateUserMessage(boolean emailTaken, boolean idNumberTaken) {
+        if (emailTaken && idNumberTaken) {
+            return "El correo electrónico y el número de identificación ya han sido registrados por otro usuario";
+        } else if (emailTaken) {
+            return "El correo electrónico ya ha sido registrado por otro usuario";
+        } else if (idNumberTaken) {
+            return "El número de identificación ya ha sido registrado por otro usuario";
+        }
+        // Otra transacción confirmó el registro entre el snapshot y el INSERT
+        return "El correo electrónico o el número de identificación ya han sido registrados por otro usuario";
+    }
+
+    private static RuntimeException updateRejection(UserUpdate update) {
+        if (update.isVersionConflict()) {
+            return new UserVersionConflictException("El usuario fue modificado por otra operación, consulte la versión actual e intente nuevamente");
+        } else if (update.idNumberFound() && update.emailFound()) {
+            return new InvalidUserDataException("No se pueden cambiar el correo electrónico ni el número de identificación que ya han sido registrados por el usuario");
+        } else if (update.idNumberFound()) {
+            return new InvalidUserDataException("No se puede cambiar el correo electrónico registrado por el usuario");
+        } else if (update.emailFound()) {
+            return new InvalidUserDataException("No se puede cambiar el número de identificación registrado por el usuario");
+        }
+        return new InvalidUserDataException("No existe un usuario con los datos proporcionados");
     }
 }
@@ -1,13 +1,13 @@
 package co.com.crediya.cy_authentication.usecase.authenticateuser;
 
 import co.com.crediya.cy_authentication.exception.InvalidCredentialsException;
-import co.com.crediya.cy_authentication.model.role.Role;
-import co.com.crediya.cy_authentication.model.role.gateways.RoleRepository;
+import co.com.crediya.cy_authentication.exception.ServiceOverloadedException;
 import co.com.crediya.cy_authentication.model.security.JwtToken;
+import co.com.crediya.cy_authentication.model.security.TokenData;
 import co.com.crediya.cy_authentication.model.security.gateways.PasswordHasher;
 import co.com.crediya.cy_authentication.model.security.gateways.TokenGenerator;
-import co.com.crediya.cy_authentication.model.user.User;
 import co.com.crediya.cy_authentication.model.user.gateways.UserRepository;
+import co.com.crediya.cy_authentication.model.user.record.UserCredentials;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,14 +15,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
 import java.math.BigInteger;
 import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,9 +36,6 @@ class AuthenticateUserUseCaseTest {
   @Mock
   private UserRepository userRepository;
 
-  @Mock
-  private RoleRepository roleRepository;
-
   @Mock
   private PasswordHasher hasher;
 
@@ -44,7 +46,7 @@ class AuthenticateUserUseCaseTest {
 
   @BeforeEach
   void setUp() {
-    useCase = new AuthenticateUserUseCase(userRepository, roleRepository, hasher, tokens);
+    useCase = new AuthenticateUserUseCase(userRepository, hasher, tokens);
   }
 
   @Test
@@ -56,17 +58,9 @@ class AuthenticateUserUseCaseTest {
     String hashedPassword = "$2a$12$hash";
     BigInteger userId = BigInteger.valueOf(1l);
 
-    User user = mock(User.class);
-    when(user.getRoleId()).thenReturn(1);
-    when(user.getPassword()).thenReturn(hashedPassword);
-    when(user.getId()).thenReturn(userId);
-
-    Role role = mock(Role.class);
-    when(role.getId()).thenReturn(1);
-
-    when(userRepository.getByEmail(username)).thenReturn(Mono.just(user));
-    when(roleRepository.getRoleById(1)).thenReturn(Mono.just(role));
-    when(hasher.matches(rawPassword, hashedPassword)).thenReturn(true);
+    when(userRepository.findCredentialsByEmail(username))
+        .thenReturn(Mono.just(new UserCredentials(userId, hashedPassword, 1)));
+    when(hasher.matchesAsync(rawPassword, hashedPassword)).thenReturn(Mono.just(true));
     when(tokens.generate(userId.toString(), List.of(1), Duration.ofHours(4))).thenReturn("jwt-token-123");
 
     // Act & Assert
@@ -76,10 +70,10 @@ class AuthenticateUserUseCaseTest {
   }
 
   @Test
-  @DisplayName("Debería fallar con InvalidCredentialsException cuando usuario no existe")
+  @DisplayName("Debería fallar con InvalidCredentialsException cuando usuario o rol no existen")
   void shouldFailWhenUserNotFound() {
     // Arrange
-    when(userRepository.getByEmail(anyString())).thenReturn(Mono.empty());
+    when(userRepository.findCredentialsByEmail(anyString())).thenReturn(Mono.empty());
 
     // Act & Assert
     StepVerifier.create(useCase.handle("noone@example.com", "x"))
@@ -88,38 +82,148 @@ class AuthenticateUserUseCaseTest {
   }
 
   @Test
-  @DisplayName("Debería completar vacío cuando el rol no existe (Mono.empty en RoleRepository)")
-  void shouldCompleteEmptyWhenRoleNotFound() {
+  @DisplayName("Debería fallar con InvalidCredentialsException cuando la contraseña no coincide")
+  void shouldFailWhenPasswordDoesNotMatch() {
+    // Arrange
+    String username = "john.doe@example.com";
+    String rawPassword = "wrong";
+    String hashedPassword = "$2a$12$hash";
+
+    when(userRepository.findCredentialsByEmail(username))
+        .thenReturn(Mono.just(new UserCredentials(BigInteger.ONE, hashedPassword, 1)));
+    when(hasher.matchesAsync(rawPassword, hashedPassword)).thenReturn(Mono.just(false));
+
+    // Act & Assert
+    StepVerifier.create(useCase.handle(username, rawPassword))
+        .expectError(InvalidCredentialsException.class)
+        .verify();
+  }
+
+  @Test
+  @DisplayName("Debería extraer los datos del token en el mismo hilo sin bloquear")
+  void shouldExtractTokenDataInlineWithoutBlocking() {
+    // Arrange
+    TokenData tokenData = new TokenData("1", List.of(3));
+    when(tokens.verify("jwt-token-123")).thenReturn(Optional.of(tokenData));
+
+    // Act & Assert
+    StepVerifier.create(useCase.extractTokenData("jwt-token-123").subscribeOn(Schedulers.parallel()))
+        .expectNext(tokenData)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("Debería propagar ServiceOverloadedException cuando el pool de hashing está saturado")
+  void shouldPropagateOverloadWhenHashingPoolIsFull() {
     // Arrange
-    User user = mock(User.class);
-    when(user.getRoleId()).thenReturn(99);
-    when(userRepository.getByEmail(anyString())).thenReturn(Mono.just(user));
-    when(roleRepository.getRoleById(99)).thenReturn(Mono.empty());
+    when(userRepository.findCredentialsByEmail(anyString()))
+        .thenReturn(Mono.just(new UserCredentials(BigInteger.ONE, "$2a$12$hash", 1)));
+    when(hasher.matchesAsync(anyString(), anyString())).thenReturn(Mono.error(new ServiceOverloadedException()));
 
     // Act & Assert
     StepVerifier.create(useCase.handle("john.doe@example.com", "x"))
+        .expectError(ServiceOverloadedException.class)
+        .verify();
+  }
+
+  @Test
+  @DisplayName("Debería re-hashear la contraseña al iniciar sesión cuando el costo está desactualizado")
+  void shouldRehashPasswordWhenCostIsOutdated() {
+    // Arrange
+    String username = "john.doe@example.com";
+    String rawPassword = "pass123";
+    String hashedPassword = "$2a$12$hash";
+    BigInteger userId = BigInteger.valueOf(1l);
+
+    when(userRepository.findCredentialsByEmail(username))
+        .thenReturn(Mono.just(new UserCredentials(userId, hashedPassword, 1)));
+    when(hasher.matchesAsync(rawPassword, hashedPassword)).thenReturn(Mono.just(true));
+    when(hasher.needsRehash(hashedPassword)).thenReturn(true);
+    when(hasher.hashAsync(rawPassword)).thenReturn(Mono.just("$2a$10$rehashed"));
+    when(userRepository.updatePassword(userId, "$2a$10$rehashed")).thenReturn(Mono.empty());
+    when(tokens.generate(userId.toString(), List.of(1), Duration.ofHours(4))).thenReturn("jwt-token-123");
+
+    // Act & Assert
+    StepVerifier.create(useCase.handle(username, rawPassword))
+        .expectNextMatches(jwt -> "jwt-token-123".equals(jwt.getToken()))
         .verifyComplete();
+
+    verify(userRepository, timeout(1000)).updatePassword(userId, "$2a$10$rehashed");
   }
 
   @Test
-  @DisplayName("Debería fallar con InvalidCredentialsException cuando la contraseña no coincide")
-  void shouldFailWhenPasswordDoesNotMatch() {
+  @DisplayName("Debería devolver el token sin esperar a que termine el re-hash")
+  void shouldReturnTokenWithoutWaitingForRehash() {
     // Arrange
     String username = "john.doe@example.com";
-    String rawPassword = "wrong";
+    String rawPassword = "pass123";
     String hashedPassword = "$2a$12$hash";
+    BigInteger userId = BigInteger.valueOf(1l);
+
+    when(userRepository.findCredentialsByEmail(username))
+        .thenReturn(Mono.just(new UserCredentials(userId, hashedPassword, 1)));
+    when(hasher.matchesAsync(rawPassword, hashedPassword)).thenReturn(Mono.just(true));
+    when(hasher.needsRehash(hashedPassword)).thenReturn(true);
+    when(hasher.hashAsync(rawPassword)).thenReturn(Mono.never());
+    when(tokens.generate(userId.toString(), List.of(1), Duration.ofHours(4))).thenReturn("jwt-token-123");
+
+    // Act & Assert
+    StepVerifier.create(useCase.handle(username, rawPassword))
+        .expectNextMatches(jwt -> "jwt-token-123".equals(jwt.getToken()))
+        .expectComplete()
+        .verify(Duration.ofSeconds(1));
+
+    verify(userRepository, never()).updatePassword(any(), anyString());
+  }
 
-    User user = mock(User.class);
-    when(user.getRoleId()).thenReturn(1);
-    when(user.getPassword()).thenReturn(hashedPassword);
+  @Test
+  @DisplayName("No debería fallar el login si el re-hash de la contraseña falla")
+  void shouldNotFailLoginWhenRehashFails() {
+    // Arrange
+    String username = "john.doe@example.com";
+    String rawPassword = "pass123";
+    String hashedPassword = "$2a$12$hash";
+    BigInteger userId = BigInteger.valueOf(1l);
 
-    when(userRepository.getByEmail(username)).thenReturn(Mono.just(user));
-    when(roleRepository.getRoleById(1)).thenReturn(Mono.just(mock(Role.class)));
-    when(hasher.matches(rawPassword, hashedPassword)).thenReturn(false);
+    when(userRepository.findCredentialsByEmail(username))
+        .thenReturn(Mono.just(new UserCredentials(userId, hashedPassword, 1)));
+    when(hasher.matchesAsync(rawPassword, hashedPassword)).thenReturn(Mono.just(true));
+    when(hasher.needsRehash(hashedPassword)).thenReturn(true);
+    when(hasher.hashAsync(rawPassword)).thenReturn(Mono.error(new ServiceOverloadedException()));
+    when(tokens.generate(userId.toString(), List.of(1), Duration.ofHours(4))).thenReturn("jwt-token-123");
 
     // Act & Assert
     StepVerifier.create(useCase.handle(username, rawPassword))
-        .expectError(InvalidCredentialsException.class)
-        .verify();
+        .expectNextMatches(jwt -> "jwt-token-123".equals(jwt.getToken()))
+        .verifyComplete();
+
+    verify(hasher, timeout(1000)).hashAsync(rawPassword);
+    verify(userRepository, after(200).never()).updatePassword(any(), anyString());
+  }
+
+  @Test
+  @DisplayName("No debería fallar el login si la escritura del nuevo hash falla")
+  void shouldNotFailLoginWhenPasswordUpdateFails() {
+    // Arrange
+    String username = "john.doe@example.com";
+    String rawPassword = "pass123";
+    String hashedPassword = "$2a$12$hash";
+    BigInteger userId = BigInteger.valueOf(1l);
+
+    when(userRepository.findCredentialsByEmail(username))
+        .thenReturn(Mono.just(new UserCredentials(userId, hashedPassword, 1)));
+    when(hasher.matchesAsync(rawPassword, hashedPassword)).thenReturn(Mono.just(true));
+    when(hasher.needsRehash(hashedPassword)).thenReturn(true);
+    when(hasher.hashAsync(rawPassword)).thenReturn(Mono.just("$2a$10$rehashed"));
+    when(userRepository.updatePassword(userId, "$2a$10$rehashed"))
+        .thenReturn(Mono.error(new IllegalStateException("conexión cerrada")));
+    when(tokens.generate(userId.toString(), List.of(1), Duration.ofHours(4))).thenReturn("jwt-token-123");
+
+    // Act & Assert
+    StepVerifier.create(useCase.handle(username, rawPassword))
+        .expectNextMatches(jwt -> "jwt-token-123".equals(jwt.getToken()))
+        .verifyComplete();
+
+    verify(userRepository, timeout(1000)).updatePassword(userId, "$2a$10$rehashed");
   }
 }
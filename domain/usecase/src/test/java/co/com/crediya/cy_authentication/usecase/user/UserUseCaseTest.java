@@ -1,6 +1,8 @@
 package co.com.crediya.cy_authentication.usecase.user;
 
 import co.com.crediya.cy_authentication.exception.InvalidUserDataException;
+import co.com.crediya.cy_authentication.exception.ServiceOverloadedException;
+import co.com.crediya.cy_authentication.exception.UserVersionConflictException;
 import co.com.crediya.cy_authentication.model.idtype.IdType;
 import co.com.crediya.cy_authentication.model.idtype.gateways.IdTypeRepository;
 import co.com.crediya.cy_authentication.model.role.Role;
@@ -8,6 +10,13 @@ import co.com.crediya.cy_authentication.model.role.gateways.RoleRepository;
 import co.com.crediya.cy_authentication.model.security.gateways.PasswordHasher;
 import co.com.crediya.cy_authentication.model.user.User;
 import co.com.crediya.cy_authentication.model.user.gateways.UserRepository;
+import co.com.crediya.cy_authentication.model.user.record.UserBulkDeletion;
+import co.com.crediya.cy_authentication.model.user.record.UserCreation;
+import co.com.crediya.cy_authentication.model.user.record.UserImportResult;
+import co.com.crediya.cy_authentication.model.user.record.UserPageItem;
+import co.com.crediya.cy_authentication.model.user.record.UserPageQuery;
+import co.com.crediya.cy_authentication.model.user.record.UserSummary;
+import co.com.crediya.cy_authentication.model.user.record.UserUpdate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,8 +32,13 @@ import reactor.test.StepVerifier;
 
 import java.math.BigInteger;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.reset;
 
@@ -47,6 +61,7 @@ class UserUseCaseTest {
     private UserUseCase userUseCase;
 
     private User validUser;
+    private UserSummary validSummary;
     private IdType validIdType;
     private Role validRole;
 
@@ -58,6 +73,7 @@ class UserUseCaseTest {
         userUseCase = new UserUseCase(userRepository, idTypeRepository, roleRepository, passwordHasher);
 
         when(passwordHasher.hash(any())).thenReturn("$2a$12$dummyhashdummyhashdummyhashdum");
+        when(passwordHasher.hashAsync(any())).thenReturn(Mono.just("$2a$12$dummyhashdummyhashdummyhashdum"));
 
         validIdType = IdType.builder()
                 .id(1)
@@ -83,6 +99,8 @@ class UserUseCaseTest {
                 .roleId(1)
                 .password("password123")
                 .build();
+
+        validSummary = new UserSummary(12345678L, "John", "Doe", "john.doe@example.com", 3000000.0);
     }
 
     @Test
@@ -91,8 +109,7 @@ class UserUseCaseTest {
         // Given
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.empty());
-        when(userRepository.saveUser(any())).thenReturn(Mono.just(validUser));
+        when(userRepository.createUser(any())).thenReturn(Mono.just(UserCreation.created(validUser)));
 
         // When & Then
         StepVerifier.create(userUseCase.saveUser(Mono.just(validUser)))
@@ -109,7 +126,6 @@ class UserUseCaseTest {
     @DisplayName("Should fail when IdType not found")
     void shouldFailWhenIdTypeNotFound() {
         // Given
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.empty());
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.empty());
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
 
@@ -123,7 +139,6 @@ class UserUseCaseTest {
     @DisplayName("Should fail when Role not found")
     void shouldFailWhenRoleNotFound() {
         // Given
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.empty());
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.empty());
 
@@ -154,17 +169,37 @@ class UserUseCaseTest {
     @DisplayName("Should get user by id number successfully")
     void shouldGetUserByIdNumberSuccessfully() {
         // Given
-        when(userRepository.getByIdNumber(12345678L)).thenReturn(Mono.just(validUser));
-        when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
-        when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
+        when(userRepository.getByIdNumber(12345678L)).thenReturn(Mono.just(validSummary));
 
         // When & Then
         StepVerifier.create(userUseCase.getByIdNumber(12345678L))
-                .expectNextMatches(userRecord -> 
-                    userRecord.idNumber().equals(12345678L) &&
-                    userRecord.name().equals("John")
+                .expectNextMatches(summary ->
+                    summary.idNumber().equals(12345678L) &&
+                    summary.name().equals("John")
                 )
                 .verifyComplete();
+
+        verify(idTypeRepository, never()).getIdTypeById(any());
+        verify(roleRepository, never()).getRoleById(any());
+    }
+
+    @Test
+    @DisplayName("Should get user summary by email and by id without catalog lookups")
+    void shouldGetUserSummaryByEmailAndById() {
+        // Given
+        when(userRepository.getByEmail("john.doe@example.com")).thenReturn(Mono.just(validSummary));
+        when(userRepository.getById(BigInteger.ONE)).thenReturn(Mono.just(validSummary));
+
+        // When & Then
+        StepVerifier.create(userUseCase.getUserByEmail("john.doe@example.com"))
+                .expectNext(validSummary)
+                .verifyComplete();
+        StepVerifier.create(userUseCase.getUserById(BigInteger.ONE))
+                .expectNext(validSummary)
+                .verifyComplete();
+
+        verify(idTypeRepository, never()).getIdTypeById(any());
+        verify(roleRepository, never()).getRoleById(any());
     }
 
     @Test
@@ -173,8 +208,7 @@ class UserUseCaseTest {
         // Given - Configurar todos los mocks necesarios para este test
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.just(validUser));
-        when(userRepository.editUser(any())).thenReturn(Mono.just(validUser));
+        when(userRepository.updateUser(any())).thenReturn(Mono.just(UserUpdate.updated(validUser)));
 
         // When & Then
         StepVerifier.create(userUseCase.editUser(Mono.just(validUser)))
@@ -196,6 +230,115 @@ class UserUseCaseTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should delete users in chunks and report the ones not found")
+    void shouldDeleteUsersInChunksAndReportNotFound() {
+        // Given
+        when(userRepository.deleteUsers(List.of(1L, 2L))).thenReturn(Flux.just(2L));
+        when(userRepository.deleteUsers(List.of(3L))).thenReturn(Flux.just(3L));
+
+        // When & Then
+        StepVerifier.create(userUseCase.deleteUsers(List.of(1L, 2L, 2L, 3L), 2))
+                .expectNext(new UserBulkDeletion(List.of(2L, 3L), List.of(1L)))
+                .verifyComplete();
+
+        verify(userRepository, never()).deleteUser(any());
+    }
+
+    @Test
+    @DisplayName("Should import users in batches reporting each row in order")
+    void shouldImportUsersInBatchesReportingEachRow() {
+        // Given
+        when(idTypeRepository.getAllIdTypes()).thenReturn(Flux.just(validIdType));
+        when(roleRepository.getAllRoles()).thenReturn(Flux.just(validRole));
+        User second = validUser.toBuilder().idNumber(2L).email("second@example.com").build();
+        User invalid = validUser.toBuilder().idNumber(3L).email("not-an-email").build();
+        User repeated = validUser.toBuilder().idNumber(4L).build();
+        User taken = validUser.toBuilder().idNumber(5L).email("taken@example.com").build();
+        when(userRepository.createUsers(any())).thenAnswer(invocation -> {
+            List<User> batch = invocation.getArgument(0);
+            return Flux.fromIterable(batch).map(user -> user.getIdNumber().equals(5L)
+                    ? UserCreation.conflict(true, false)
+                    : UserCreation.created(user.toBuilder().id(BigInteger.valueOf(user.getIdNumber())).build()));
+        });
+
+        // When & Then
+        StepVerifier.create(userUseCase.importUsers(Flux.just(validUser, second, invalid, repeated, taken), 2, 2))
+                .expectNextMatches(result -> result.row() == 1 && result.status() == UserImportResult.Status.CREATED)
+                .expectNextMatches(result -> result.row() == 2 && result.id().equals(BigInteger.TWO))
+                .expectNextMatches(result -> result.row() == 3 && result.status() == UserImportResult.Status.REJECTED
+                    && result.message().equals("El formato del correo electrónico no es válido"))
+                .expectNextMatches(result -> result.row() == 4 && result.status() == UserImportResult.Status.DUPLICATE
+                    && result.message().endsWith("en el mismo archivo"))
+                .expectNextMatches(result -> result.row() == 5 && result.status() == UserImportResult.Status.DUPLICATE
+                    && result.message().equals("El correo electrónico ya ha sido registrado por otro usuario"))
+                .verifyComplete();
+
+        verify(userRepository).createUsers(List.of(validUser, second));
+        verify(userRepository).createUsers(List.of(taken));
+        verify(userRepository, never()).createUser(any());
+    }
+
+    @Test
+    @DisplayName("Should reject only the rows whose hashing stays overloaded and retry transient rejections")
+    void shouldRejectImportedRowWhenHashingStaysOverloaded() {
+        // Given
+        when(idTypeRepository.getAllIdTypes()).thenReturn(Flux.just(validIdType));
+        when(roleRepository.getAllRoles()).thenReturn(Flux.just(validRole));
+        User overloaded = validUser.toBuilder().idNumber(2L).email("second@example.com").password("overloaded").build();
+        User busyOnce = validUser.toBuilder().idNumber(3L).email("third@example.com").password("busy-once").build();
+        AtomicInteger busyOnceAttempts = new AtomicInteger();
+        when(passwordHasher.hashAsync("password123")).thenReturn(Mono.just("$2a$12$first"));
+        when(passwordHasher.hashAsync("overloaded")).thenReturn(Mono.error(new ServiceOverloadedException()));
+        when(passwordHasher.hashAsync("busy-once")).thenReturn(Mono.defer(() -> busyOnceAttempts.getAndIncrement() == 0
+                ? Mono.error(new ServiceOverloadedException())
+                : Mono.just("$2a$12$third")));
+        when(userRepository.createUsers(any())).thenAnswer(invocation -> {
+            List<User> batch = invocation.getArgument(0);
+            return Flux.fromIterable(batch)
+                    .map(user -> UserCreation.created(user.toBuilder().id(BigInteger.valueOf(user.getIdNumber())).build()));
+        });
+
+        // When & Then
+        StepVerifier.create(userUseCase.importUsers(Flux.just(validUser, overloaded, busyOnce), 10, 2))
+                .expectNextMatches(result -> result.row() == 1 && result.status() == UserImportResult.Status.CREATED)
+                .expectNextMatches(result -> result.row() == 2 && result.status() == UserImportResult.Status.REJECTED
+                    && result.idNumber().equals(2L))
+                .expectNextMatches(result -> result.row() == 3 && result.status() == UserImportResult.Status.CREATED)
+                .verifyComplete();
+
+        verify(userRepository).createUsers(argThat(batch -> batch.size() == 2
+                && batch.get(0).getIdNumber().equals(validUser.getIdNumber()) && batch.get(1).getIdNumber().equals(3L)));
+    }
+
+    @Test
+    @DisplayName("Should reject imported rows with unknown reference data without inserting them")
+    void shouldRejectImportedRowsWithUnknownReferenceData() {
+        // Given
+        when(idTypeRepository.getAllIdTypes()).thenReturn(Flux.just(validIdType));
+        when(roleRepository.getAllRoles()).thenReturn(Flux.just(validRole));
+
+        // When & Then
+        StepVerifier.create(userUseCase.importUsers(Flux.just(validUser.toBuilder().roleId(99).build()), 10, 2))
+                .expectNextMatches(result -> result.status() == UserImportResult.Status.REJECTED
+                    && result.message().equals("No existe un rol con id 99"))
+                .verifyComplete();
+
+        verify(userRepository, never()).createUsers(any());
+        verify(passwordHasher, never()).hashAsync(any());
+    }
+
+    @Test
+    @DisplayName("Should fail bulk delete when list is empty")
+    void shouldFailBulkDeleteWhenListIsEmpty() {
+        // When & Then
+        StepVerifier.create(userUseCase.deleteUsers(List.of(), 2))
+                .expectError(InvalidUserDataException.class)
+                .verify();
+
+        verify(userRepository, never()).deleteUsers(any());
+    }
+
     @Test
     @DisplayName("Should fail validation when name is null")
     void shouldFailValidationWhenNameIsNull() {
@@ -256,10 +399,9 @@ class UserUseCaseTest {
     @DisplayName("Should fail when user email already exists")
     void shouldFailWhenUserEmailAlreadyExists() {
         // Given
-        User existingUser = validUser.toBuilder().idNumber(87654321L).build();
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.just(existingUser));
+        when(userRepository.createUser(any())).thenReturn(Mono.just(UserCreation.conflict(true, false)));
 
         // When & Then
         StepVerifier.create(userUseCase.saveUser(Mono.just(validUser)))
@@ -365,6 +507,38 @@ class UserUseCaseTest {
                 .verify();
     }
 
+    @Test
+    @DisplayName("Should fail validation without inserting when birth date is missing on create")
+    void shouldFailValidationWhenBirthDateIsMissing() {
+        // Given
+        User invalidUser = validUser.toBuilder().birthDate(null).build();
+
+        // When & Then
+        StepVerifier.create(userUseCase.saveUser(Mono.just(invalidUser)))
+                .expectErrorMatches(throwable ->
+                    throwable instanceof InvalidUserDataException &&
+                    throwable.getMessage().equals("La fecha de nacimiento es requerida"))
+                .verify();
+
+        verify(userRepository, never()).createUser(any());
+    }
+
+    @Test
+    @DisplayName("Should reject imported rows without birth date using the shared validation")
+    void shouldRejectImportedRowWithoutBirthDate() {
+        // Given
+        when(idTypeRepository.getAllIdTypes()).thenReturn(Flux.just(validIdType));
+        when(roleRepository.getAllRoles()).thenReturn(Flux.just(validRole));
+
+        // When & Then
+        StepVerifier.create(userUseCase.importUsers(Flux.just(validUser.toBuilder().birthDate(null).build()), 10, 2))
+                .expectNextMatches(result -> result.status() == UserImportResult.Status.REJECTED
+                    && result.message().equals("La fecha de nacimiento es requerida"))
+                .verifyComplete();
+
+        verify(userRepository, never()).createUsers(any());
+    }
+
     @Test
     @DisplayName("Should fail validation when email is whitespace")
     void shouldFailValidationWhenEmailIsWhitespace() {
@@ -481,12 +655,7 @@ class UserUseCaseTest {
     @DisplayName("Should fail when both email and idNumber already exist in CREATE mode")
     void shouldFailWhenBothEmailAndIdNumberAlreadyExistInCreateMode() {
         // Given
-        User existingUser = validUser.toBuilder()
-                .email("john.doe@example.com")  // mismo email
-                .idNumber(12345678L)            // mismo idNumber
-                .build();
-        
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.just(existingUser));
+        when(userRepository.createUser(any())).thenReturn(Mono.just(UserCreation.conflict(true, true)));
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
 
@@ -502,14 +671,9 @@ class UserUseCaseTest {
     @DisplayName("Should fail when trying to change both email and idNumber in UPDATE mode")
     void shouldFailWhenTryingToChangeBothEmailAndIdNumberInUpdateMode() {
         // Given
-        User existingUser = validUser.toBuilder()
-                .email("different@example.com")  // email diferente
-                .idNumber(87654321L)             // idNumber diferente
-                .build();
-        
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.just(existingUser));
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
+        when(userRepository.updateUser(any())).thenReturn(Mono.just(UserUpdate.rejected(true, true, null)));
 
         // When & Then
         StepVerifier.create(userUseCase.editUser(Mono.just(validUser)))
@@ -523,12 +687,7 @@ class UserUseCaseTest {
     @DisplayName("Should fail when only email already exists in CREATE mode")
     void shouldFailWhenOnlyEmailAlreadyExistsInCreateMode() {
         // Given
-        User existingUser = validUser.toBuilder()
-                .email("john.doe@example.com")  // mismo email
-                .idNumber(87654321L)            // idNumber diferente
-                .build();
-        
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.just(existingUser));
+        when(userRepository.createUser(any())).thenReturn(Mono.just(UserCreation.conflict(true, false)));
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
 
@@ -544,12 +703,7 @@ class UserUseCaseTest {
     @DisplayName("Should fail when only idNumber already exists in CREATE mode")
     void shouldFailWhenOnlyIdNumberAlreadyExistsInCreateMode() {
         // Given
-        User existingUser = validUser.toBuilder()
-                .email("different@example.com")  // email diferente
-                .idNumber(12345678L)             // mismo idNumber
-                .build();
-        
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.just(existingUser));
+        when(userRepository.createUser(any())).thenReturn(Mono.just(UserCreation.conflict(false, true)));
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
 
@@ -565,14 +719,9 @@ class UserUseCaseTest {
     @DisplayName("Should fail when trying to change email in UPDATE mode")
     void shouldFailWhenTryingToChangeEmailInUpdateMode() {
         // Given
-        User existingUser = validUser.toBuilder()
-                .email("different@example.com")  // email diferente
-                .idNumber(12345678L)             // mismo idNumber
-                .build();
-        
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.just(existingUser));
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
+        when(userRepository.updateUser(any())).thenReturn(Mono.just(UserUpdate.rejected(true, false, null)));
 
         // When & Then
         StepVerifier.create(userUseCase.editUser(Mono.just(validUser)))
@@ -586,14 +735,9 @@ class UserUseCaseTest {
     @DisplayName("Should fail when trying to change idNumber in UPDATE mode")
     void shouldFailWhenTryingToChangeIdNumberInUpdateMode() {
         // Given
-        User existingUser = validUser.toBuilder()
-                .email("john.doe@example.com")  // mismo email
-                .idNumber(87654321L)            // idNumber diferente
-                .build();
-        
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.just(existingUser));
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
+        when(userRepository.updateUser(any())).thenReturn(Mono.just(UserUpdate.rejected(false, true, null)));
 
         // When & Then
         StepVerifier.create(userUseCase.editUser(Mono.just(validUser)))
@@ -607,15 +751,9 @@ class UserUseCaseTest {
     @DisplayName("Should succeed when user data matches existing user in UPDATE mode")
     void shouldSucceedWhenUserDataMatchesExistingUserInUpdateMode() {
         // Given
-        User existingUser = validUser.toBuilder()
-                .email("john.doe@example.com")  // mismo email
-                .idNumber(12345678L)            // mismo idNumber
-                .build();
-        
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.just(existingUser));
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
-        when(userRepository.editUser(any())).thenReturn(Mono.just(validUser));
+        when(userRepository.updateUser(any())).thenReturn(Mono.just(UserUpdate.updated(validUser)));
 
         // When & Then
         StepVerifier.create(userUseCase.editUser(Mono.just(validUser)))
@@ -629,10 +767,9 @@ class UserUseCaseTest {
     @DisplayName("Should succeed when no existing user found in CREATE mode")
     void shouldSucceedWhenNoExistingUserFoundInCreateMode() {
         // Given
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.empty());
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
-        when(userRepository.saveUser(any())).thenReturn(Mono.just(validUser));
+        when(userRepository.createUser(any())).thenReturn(Mono.just(UserCreation.created(validUser)));
 
         // When & Then
         StepVerifier.create(userUseCase.saveUser(Mono.just(validUser)))
@@ -690,10 +827,9 @@ class UserUseCaseTest {
         // Given
         User validUserWithMinSalary = validUser.toBuilder().baseSalary(0.0).build();
         
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.empty());
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
-        when(userRepository.saveUser(any())).thenReturn(Mono.just(validUserWithMinSalary));
+        when(userRepository.createUser(any())).thenReturn(Mono.just(UserCreation.created(validUserWithMinSalary)));
 
         // When & Then
         StepVerifier.create(userUseCase.saveUser(Mono.just(validUserWithMinSalary)))
@@ -707,10 +843,9 @@ class UserUseCaseTest {
         // Given
         User validUserWithMaxSalary = validUser.toBuilder().baseSalary(15000000.0).build();
         
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.empty());
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
-        when(userRepository.saveUser(any())).thenReturn(Mono.just(validUserWithMaxSalary));
+        when(userRepository.createUser(any())).thenReturn(Mono.just(UserCreation.created(validUserWithMaxSalary)));
 
         // When & Then
         StepVerifier.create(userUseCase.saveUser(Mono.just(validUserWithMaxSalary)))
@@ -722,10 +857,9 @@ class UserUseCaseTest {
     @DisplayName("Should return user when no existing user found in CREATE mode")
     void shouldReturnUserWhenNoExistingUserFoundInCreateMode() {
         // Given
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.empty());
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
-        when(userRepository.saveUser(any())).thenReturn(Mono.just(validUser));
+        when(userRepository.createUser(any())).thenReturn(Mono.just(UserCreation.created(validUser)));
 
         // When & Then
         StepVerifier.create(userUseCase.saveUser(Mono.just(validUser)))
@@ -738,7 +872,7 @@ class UserUseCaseTest {
     @Test
     @DisplayName("Should fail when no existing user found in UPDATE mode")
     void shouldFailWhenNoExistingUserFoundInUpdateMode() {
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.empty());
+        when(userRepository.updateUser(any())).thenReturn(Mono.just(UserUpdate.rejected(false, false, null)));
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
 
@@ -754,10 +888,9 @@ class UserUseCaseTest {
     void shouldEditUserWithoutChangingPassword() {
         User req = validUser.toBuilder().password(null).build(); // no viene nueva contraseña
 
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.just(validUser)); // existing
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
-        when(userRepository.editUser(any())).thenReturn(Mono.just(validUser));
+        when(userRepository.updateUser(any())).thenReturn(Mono.just(UserUpdate.updated(validUser)));
 
         StepVerifier.create(userUseCase.editUser(Mono.just(req)))
             .expectNextMatches(ur -> 
@@ -766,19 +899,64 @@ class UserUseCaseTest {
             .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should send null password to keep the stored hash when editing without new password")
+    void shouldSendNullPasswordWhenEditingWithoutNewPassword() {
+        // Given
+        User req = validUser.toBuilder().password("  ").build();
+
+        when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
+        when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
+        when(userRepository.updateUser(any())).thenReturn(Mono.just(UserUpdate.updated(validUser)));
+
+        // When & Then
+        StepVerifier.create(userUseCase.editUser(Mono.just(req)))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(userRepository).updateUser(argThat(changes -> changes.getPassword() == null));
+        verify(passwordHasher, never()).hashAsync(any());
+    }
+
+    @Test
+    @DisplayName("Should fail with version conflict when user was modified concurrently")
+    void shouldFailWithVersionConflictWhenUserWasModifiedConcurrently() {
+        // Given
+        User req = validUser.toBuilder().version(2L).build();
+
+        when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
+        when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
+        when(userRepository.updateUser(any())).thenReturn(Mono.just(UserUpdate.rejected(true, true, 3L)));
+
+        // When & Then
+        StepVerifier.create(userUseCase.editUser(Mono.just(req)))
+                .expectError(UserVersionConflictException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("Should return new version after editing user")
+    void shouldReturnNewVersionAfterEditingUser() {
+        // Given
+        User req = validUser.toBuilder().version(2L).build();
+
+        when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
+        when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
+        when(userRepository.updateUser(any())).thenReturn(Mono.just(UserUpdate.updated(validUser.toBuilder().version(3L).build())));
+
+        // When & Then
+        StepVerifier.create(userUseCase.editUser(Mono.just(req)))
+                .expectNextMatches(userRecord -> userRecord.version().equals(3L))
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Should return user when validation passes in UPDATE mode")
     void shouldReturnUserWhenValidationPassesInUpdateMode() {
         // Given
-        User existingUser = validUser.toBuilder()
-                .email("john.doe@example.com")  // mismo email
-                .idNumber(12345678L)            // mismo idNumber
-                .build();
-        
-        when(userRepository.findByEmailOrIdNumber(any(), any())).thenReturn(Mono.just(existingUser));
         when(idTypeRepository.getIdTypeById(1)).thenReturn(Mono.just(validIdType));
         when(roleRepository.getRoleById(1)).thenReturn(Mono.just(validRole));
-        when(userRepository.editUser(any())).thenReturn(Mono.just(validUser));
+        when(userRepository.updateUser(any())).thenReturn(Mono.just(UserUpdate.updated(validUser)));
 
         // When & Then
         StepVerifier.create(userUseCase.editUser(Mono.just(validUser)))
@@ -788,4 +966,72 @@ class UserUseCaseTest {
                 .verifyComplete();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should return a page with next cursor when more users exist")
+    void shouldReturnPageWithNextCursorWhenMoreUsersExist() {
+        // Given
+        when(userRepository.findUsersPage(new UserPageQuery(null, 3, 1, null)))
+                .thenReturn(Flux.just(pageItem(1), pageItem(2), pageItem(3)));
+
+        // When & Then
+        StepVerifier.create(userUseCase.getUsersPage(null, 2, 1, null))
+                .expectNextMatches(page ->
+                    page.users().size() == 2 &&
+                    page.hasMore() &&
+                    page.nextAfterId().equals(BigInteger.valueOf(2)) &&
+                    page.users().get(0).roleId().equals(1))
+                .verifyComplete();
+
+        verify(idTypeRepository, never()).getAllIdTypes();
+        verify(roleRepository, never()).getAllRoles();
+    }
+
+    @Test
+    @DisplayName("Should return last page without next cursor")
+    void shouldReturnLastPageWithoutNextCursor() {
+        // Given
+        when(userRepository.findUsersPage(new UserPageQuery(BigInteger.ONE, UserUseCase.DEFAULT_PAGE_SIZE + 1, null, null)))
+                .thenReturn(Flux.just(pageItem(2)));
+
+        // When & Then
+        StepVerifier.create(userUseCase.getUsersPage(BigInteger.ONE, null, null, null))
+                .expectNextMatches(page -> page.users().size() == 1 && !page.hasMore())
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject page sizes outside the allowed range")
+    void shouldRejectInvalidPageSize() {
+        StepVerifier.create(userUseCase.getUsersPage(null, UserUseCase.MAX_PAGE_SIZE + 1, null, null))
+                .expectError(InvalidUserDataException.class)
+                .verify();
+        StepVerifier.create(userUseCase.getUsersPage(null, 0, null, null))
+                .expectError(InvalidUserDataException.class)
+                .verify();
+
+        verify(userRepository, never()).findUsersPage(any());
+    }
+
+    private UserPageItem pageItem(long id) {
+        return new UserPageItem(BigInteger.valueOf(id), validUser.getIdNumber() + id, validUser.getIdTypeId(), validUser.getName(),
+                validUser.getLastname(), validUser.getEmail(), validUser.getBaseSalary(), validUser.getRoleId(), 0L);
+    }
+
+    @Test
+    @DisplayName("Should look up streamed emails in bounded, de-duplicated chunks")
+    void shouldStreamUsersByEmailInChunks() {
+        // Given
+        when(userRepository.findUsersByEmails(any())).thenReturn(Flux.just(validSummary));
+
+        Flux<String> emails = Flux.just("a@x.com", "b@x.com", "a@x.com", "c@x.com", "d@x.com", "e@x.com");
+
+        // When & Then
+        StepVerifier.create(userUseCase.streamUsersByEmail(emails, 2, 2))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        verify(userRepository).findUsersByEmails(List.of("a@x.com", "b@x.com"));
+        verify(userRepository).findUsersByEmails(List.of("c@x.com", "d@x.com"));
+        verify(userRepository).findUsersByEmails(List.of("e@x.com"));
+    }
+}
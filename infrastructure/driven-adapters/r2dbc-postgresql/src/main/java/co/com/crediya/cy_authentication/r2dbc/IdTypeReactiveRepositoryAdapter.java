@@ -1,15 +1,13 @@
 package co.com.crediya.cy_authentication.r2dbc;
 
-import org.reactivecommons.utils.ObjectMapper;
-import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import co.com.crediya.cy_authentication.exception.DataRetrievalException;
 import co.com.crediya.cy_authentication.model.idtype.IdType;
 import co.com.crediya.cy_authentication.model.idtype.gateways.IdTypeRepository;
 import co.com.crediya.cy_authentication.r2dbc.entity.IdTypeEntity;
 import co.com.crediya.cy_authentication.r2dbc.helper.ReactiveAdapterOperations;
+import co.com.crediya.cy_authentication.r2dbc.mapper.IdTypeEntityMapper;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -23,15 +21,11 @@ public class IdTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations<
     IdTypeReactiveRepository
 > implements IdTypeRepository {
 
-    private final TransactionalOperator readOnlyTransactional;
-
     public IdTypeReactiveRepositoryAdapter(
         IdTypeReactiveRepository repository,
-        ObjectMapper mapper,
-        @Qualifier("readOnlyTransactionalOperator") TransactionalOperator readOnlyTransactional
+        IdTypeEntityMapper mapper
     ) {
-        super(repository, mapper, d -> mapper.map(d, IdType.class));
-        this.readOnlyTransactional = readOnlyTransactional;
+        super(repository, mapper);
     }
 
     @Override
@@ -46,8 +40,7 @@ public class IdTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations<
                 log.error("Error retrieving all id types", ex);
                 return new DataRetrievalException("Error al momento de consultar los tipos de identificación", ex);
             })
-            .doOnError(ex -> log.error("Failed to retrieve all the id types", ex))
-            .as(readOnlyTransactional::transactional);
+            .doOnError(ex -> log.error("Failed to retrieve all the id types", ex));
     }
 
     @Override
@@ -61,8 +54,7 @@ public class IdTypeReactiveRepositoryAdapter extends ReactiveAdapterOperations<
             .onErrorMap(ex -> {
                 log.error("Error retrieving id type with ID number {}: {}", idTypeId, ex.getMessage(), ex);
                 return new DataRetrievalException("Error consultando tipo de identificación con ID " + idTypeId, ex);
-            })
-            .as(readOnlyTransactional::transactional);
+            });
     }
     
 }
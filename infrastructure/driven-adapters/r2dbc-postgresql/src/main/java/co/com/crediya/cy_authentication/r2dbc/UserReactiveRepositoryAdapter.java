@@ -2,9 +2,9 @@ package co.com.crediya.cy_authentication.r2dbc;
 
 import java.math.BigInteger;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
@@ -15,9 +15,16 @@ import co.com.crediya.cy_authentication.exception.DataRetrievalException;
 import co.com.crediya.cy_authentication.exception.UserNotFoundException;
 import co.com.crediya.cy_authentication.model.user.User;
 import co.com.crediya.cy_authentication.model.user.gateways.UserRepository;
+import co.com.crediya.cy_authentication.model.user.record.UserCreation;
+import co.com.crediya.cy_authentication.model.user.record.UserCredentials;
+import co.com.crediya.cy_authentication.model.user.record.UserPageItem;
+import co.com.crediya.cy_authentication.model.user.record.UserPageQuery;
+import co.com.crediya.cy_authentication.model.user.record.UserSummary;
+import co.com.crediya.cy_authentication.model.user.record.UserUpdate;
 import co.com.crediya.cy_authentication.r2dbc.entity.UserEntity;
 import co.com.crediya.cy_authentication.r2dbc.helper.ReactiveAdapterOperations;
-import io.r2dbc.spi.Row;
+import co.com.crediya.cy_authentication.r2dbc.mapper.UserEntityMapper;
+import co.com.crediya.cy_authentication.r2dbc.mapper.UserRowMapper;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -31,45 +38,180 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
     UserReactiveRepository
 > implements UserRepository {
 
+    private static final int STREAM_FETCH_SIZE = 256;
+
+    // Columnas de las lecturas y RETURNING que no son de autenticación: nunca incluyen la contraseña
+    private static final String USER_COLUMNS = UserRowMapper.COLUMNS;
+
+    private static final String PAGE_COLUMNS = UserRowMapper.PAGE_COLUMNS;
+
+    // Las consultas de información básica solo traen la proyección: la contraseña no sale del repositorio
+    private static final String SUMMARY_COLUMNS = UserRowMapper.SUMMARY_COLUMNS;
+
+    private static final String USERS_BY_EMAILS_SQL =
+        "SELECT " + SUMMARY_COLUMNS + " FROM users WHERE email = ANY($1::varchar[])";
+
+    private static final String USERS_BY_ID_NUMBERS_SQL =
+        "SELECT " + SUMMARY_COLUMNS + " FROM users WHERE id_number = ANY($1::bigint[])";
+
+    private static final String USER_BY_ID_SQL = "SELECT " + SUMMARY_COLUMNS + " FROM users WHERE id = $1";
+
+    private static final String USER_BY_ID_NUMBER_SQL = "SELECT " + SUMMARY_COLUMNS + " FROM users WHERE id_number = $1";
+
+    private static final String USER_BY_EMAIL_SQL = "SELECT " + SUMMARY_COLUMNS + " FROM users WHERE email = $1";
+
+    private static final String CREDENTIALS_BY_EMAIL_SQL =
+        "SELECT u.id, u.password, r.id AS role_id " +
+        "FROM users u JOIN roles r ON r.id = u.role_id " +
+        "WHERE u.email = $1";
+
+    // El SELECT externo ve el snapshot previo al INSERT del CTE, así reporta qué columna ya existía
+    private static final String CREATE_USER_SQL =
+        "WITH inserted AS (" +
+        "INSERT INTO users (id_number, id_type_id, name, lastname, birth_date, address, phone, email, base_salary, role_id, password) " +
+        "VALUES ($1, $2, $3, $4, $5, $6, $7, $8, $9, $10, $11) " +
+        "ON CONFLICT DO NOTHING RETURNING id, version) " +
+        "SELECT (SELECT id FROM inserted) AS id, (SELECT version FROM inserted) AS version, " +
+        "EXISTS (SELECT 1 FROM users WHERE email = $8) AS email_taken, " +
+        "EXISTS (SELECT 1 FROM users WHERE id_number = $1) AS id_number_taken";
+
+    // Inserción de un lote completo con un solo INSERT ... SELECT sobre arreglos: la cantidad de parámetros
+    // no depende del tamaño del lote y cada fila de entrada reporta si se insertó o qué restricción chocó
+    private static final String CREATE_USERS_SQL =
+        "WITH input AS (" +
+        "SELECT * FROM unnest($1::bigint[], $2::int[], $3::varchar[], $4::varchar[], $5::date[], $6::varchar[], " +
+        "$7::varchar[], $8::varchar[], $9::float8[], $10::int[], $11::varchar[]) WITH ORDINALITY " +
+        "AS t(id_number, id_type_id, name, lastname, birth_date, address, phone, email, base_salary, role_id, password, ord)), " +
+        "inserted AS (" +
+        "INSERT INTO users (id_number, id_type_id, name, lastname, birth_date, address, phone, email, base_salary, role_id, password) " +
+        "SELECT id_number, id_type_id, name, lastname, birth_date, address, phone, email, base_salary, role_id, password " +
+        "FROM input ORDER BY ord " +
+        "ON CONFLICT DO NOTHING RETURNING id, id_number, version) " +
+        "SELECT input.ord, inserted.id, inserted.version, " +
+        "EXISTS (SELECT 1 FROM users WHERE users.email = input.email) AS email_taken, " +
+        "EXISTS (SELECT 1 FROM users WHERE users.id_number = input.id_number) AS id_number_taken " +
+        "FROM input LEFT JOIN inserted ON inserted.id_number = input.id_number " +
+        "ORDER BY input.ord";
+
+    // Edición parcial en una sola sentencia: las columnas de existencia permiten distinguir
+    // usuario inexistente, cambio de correo/identificación y conflicto de versión sin otra consulta
+    private static final String UPDATE_USER_SQL =
+        "WITH updated AS (" +
+        "UPDATE users SET id_type_id = $3, name = $4, lastname = $5, birth_date = $6, address = $7, phone = $8, " +
+        "base_salary = $9, role_id = $10, password = COALESCE($11, password), version = version + 1 " +
+        "WHERE id_number = $1 AND email = $2 AND ($12::bigint IS NULL OR version = $12) " +
+        "RETURNING " + USER_COLUMNS + ") " +
+        "SELECT updated.*, " +
+        "EXISTS (SELECT 1 FROM users WHERE id_number = $1) AS id_number_found, " +
+        "EXISTS (SELECT 1 FROM users WHERE email = $2) AS email_found, " +
+        "(SELECT version FROM users WHERE id_number = $1 AND email = $2) AS current_version " +
+        "FROM (SELECT 1) AS one LEFT JOIN updated ON true";
+
+    private static final String DELETE_USER_SQL = "DELETE FROM users WHERE id_number = $1";
+
+    private static final String DELETE_USERS_SQL =
+        "DELETE FROM users WHERE id_number = ANY($1::bigint[]) RETURNING id_number";
+
     private final TransactionalOperator writeTransactional;
     private final TransactionalOperator readOnlyTransactional;
     private final DatabaseClient databaseClient;
 
     public UserReactiveRepositoryAdapter(
         UserReactiveRepository repository,
-        ObjectMapper mapper,
+        UserEntityMapper mapper,
         TransactionalOperator transactionalOperator,
         @Qualifier("readOnlyTransactionalOperator") TransactionalOperator readOnlyTransactional,
         DatabaseClient databaseClient
     ) {
-        super(repository, mapper, d -> mapper.map(d, User.class));
+        super(repository, mapper);
         this.writeTransactional = transactionalOperator;
         this.readOnlyTransactional = readOnlyTransactional;
         this.databaseClient = databaseClient;
     }
 
     @Override
-    public Mono<User> saveUser(Mono<User> user) {
-        return user
-            .doOnNext(userData -> log.info("Attempting to save user: {}", userData.getIdNumber()))
-            .flatMap(userData -> 
-                repository.save(toData(userData))
-                    .doOnNext(savedEntity -> log.debug("User entity saved: {}", savedEntity.getIdNumber()))
-                    .map(this::toEntity)
-                    .doOnNext(savedUser -> log.info("User successfully saved: {}", savedUser.getIdNumber()))
-                    .onErrorMap(ex -> {
-                        log.error("Error saving user: {}", ex.getMessage(), ex);
-                        return new DataPersistenceException("Error intentando guardar el usuario", ex);
-                    })
-            )
-            .as(writeTransactional::transactional);
+    public Mono<UserCreation> createUser(User user) {
+        log.info("Attempting to create user: {}", user.getIdNumber());
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(CREATE_USER_SQL)
+            .bind(0, user.getIdNumber())
+            .bind(1, user.getIdTypeId())
+            .bind(2, user.getName())
+            .bind(3, user.getLastname())
+            .bind(4, user.getBirthDate());
+        spec = bindNullable(spec, 5, user.getAddress(), String.class);
+        spec = bindNullable(spec, 6, user.getPhone(), String.class);
+        spec = spec.bind(7, user.getEmail());
+        spec = bindNullable(spec, 8, user.getBaseSalary(), Double.class);
+
+        return spec.bind(9, user.getRoleId())
+            .bind(10, user.getPassword())
+            .map((row, rowMetadata) -> {
+                Long id = row.get("id", Long.class);
+                if (id == null) {
+                    return UserCreation.conflict(
+                        Boolean.TRUE.equals(row.get("email_taken", Boolean.class)),
+                        Boolean.TRUE.equals(row.get("id_number_taken", Boolean.class)));
+                }
+                return UserCreation.created(user.toBuilder().id(BigInteger.valueOf(id)).password(null).version(row.get("version", Long.class)).build());
+            })
+            .one()
+            .doOnNext(creation -> {
+                if (creation.isCreated()) {
+                    log.info("User successfully created: {}", user.getIdNumber());
+                } else {
+                    log.warn("User {} not created, unique constraint conflict (email: {}, id number: {})",
+                        user.getIdNumber(), creation.emailTaken(), creation.idNumberTaken());
+                }
+            })
+            .onErrorMap(ex -> {
+                log.error("Error creating user: {}", ex.getMessage(), ex);
+                return new DataPersistenceException("Error intentando guardar el usuario", ex);
+            });
+    }
+
+    @Override
+    public Flux<UserCreation> createUsers(List<User> users) {
+        log.info("Attempting to create a batch of {} users", users.size());
+
+        return databaseClient.sql(CREATE_USERS_SQL)
+            .bind(0, users.stream().map(User::getIdNumber).toArray(Long[]::new))
+            .bind(1, users.stream().map(User::getIdTypeId).toArray(Integer[]::new))
+            .bind(2, users.stream().map(User::getName).toArray(String[]::new))
+            .bind(3, users.stream().map(User::getLastname).toArray(String[]::new))
+            .bind(4, users.stream().map(User::getBirthDate).toArray(LocalDate[]::new))
+            .bind(5, users.stream().map(User::getAddress).toArray(String[]::new))
+            .bind(6, users.stream().map(User::getPhone).toArray(String[]::new))
+            .bind(7, users.stream().map(User::getEmail).toArray(String[]::new))
+            .bind(8, users.stream().map(User::getBaseSalary).toArray(Double[]::new))
+            .bind(9, users.stream().map(User::getRoleId).toArray(Integer[]::new))
+            .bind(10, users.stream().map(User::getPassword).toArray(String[]::new))
+            .map((row, rowMetadata) -> {
+                User user = users.get(row.get("ord", Long.class).intValue() - 1);
+                Long id = row.get("id", Long.class);
+                if (id == null) {
+                    return UserCreation.conflict(
+                        Boolean.TRUE.equals(row.get("email_taken", Boolean.class)),
+                        Boolean.TRUE.equals(row.get("id_number_taken", Boolean.class)));
+                }
+                return UserCreation.created(user.toBuilder().id(BigInteger.valueOf(id)).password(null).version(row.get("version", Long.class)).build());
+            })
+            .all()
+            .onErrorMap(ex -> {
+                log.error("Error creating users batch: {}", ex.getMessage(), ex);
+                return new DataPersistenceException("Error intentando guardar el lote de usuarios", ex);
+            });
     }
 
     @Override
     public Flux<User> getAllUsers() {
         log.info("Retrieving all users");
     
-        return findAll()
+        // fetchSize hace que el driver lea por lotes desde un portal y solo pida el siguiente cuando hay demanda
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users")
+            .filter((statement, next) -> next.execute(statement.fetchSize(STREAM_FETCH_SIZE)))
+            .map(UserRowMapper::toUser)
+            .all()
             .doOnNext(user -> log.debug("Retrieved users successfully"))
             .doOnComplete(() -> log.info("Finished retrieving all users"))
             .onErrorMap(ex -> {
@@ -77,17 +219,53 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
                 return new DataRetrievalException("Error al momento de consultar los usuarios", ex);
             })
             .doOnError(ex -> log.error("Failed to retrieve users", ex))
-            .as(readOnlyTransactional::transactional); 
+            // Única lectura que conserva la transacción: el cursor por lotes (varios Execute) necesita un snapshot estable
+            .as(readOnlyTransactional::transactional);
+    }
+
+    @Override
+    public Flux<UserPageItem> findUsersPage(UserPageQuery query) {
+        log.info("Retrieving users page after ID {} (limit {}, role {}, id type {})",
+            query.afterId(), query.limit(), query.roleId(), query.idTypeId());
+
+        // Keyset sobre la llave primaria: el costo no depende de qué tan lejos esté la página
+        List<Object> params = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT " + PAGE_COLUMNS + " FROM users WHERE id > $1");
+        params.add(query.afterId() == null ? 0L : query.afterId().longValue());
+        if (query.roleId() != null) {
+            params.add(query.roleId());
+            sql.append(" AND role_id = $").append(params.size());
+        }
+        if (query.idTypeId() != null) {
+            params.add(query.idTypeId());
+            sql.append(" AND id_type_id = $").append(params.size());
+        }
+        params.add(query.limit());
+        sql.append(" ORDER BY id LIMIT $").append(params.size());
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < params.size(); i++) {
+            spec = spec.bind(i, params.get(i));
+        }
+
+        return spec.map(UserRowMapper::toPageItem)
+            .all()
+            .doOnComplete(() -> log.info("Finished retrieving users page after ID {}", query.afterId()))
+            .onErrorMap(ex -> {
+                log.error("Error retrieving users page after ID {}", query.afterId(), ex);
+                return new DataRetrievalException("Error al momento de consultar la página de usuarios", ex);
+            });
     }
 
     @Override
-    public Mono<User> getByIdNumber(Long idNumber) {
+    public Mono<UserSummary> getByIdNumber(Long idNumber) {
         log.info("Searching for user with ID number: {}", idNumber);
     
-        return repository.findByIdNumber(idNumber)
-            .doOnNext(entity -> log.debug("Found user entity with ID number {}: {}", idNumber, entity))
-            .map(this::toEntity)
-            .doOnNext(user -> log.info("Successfully mapped user with ID number {}: {}", idNumber))
+        return databaseClient.sql(USER_BY_ID_NUMBER_SQL)
+            .bind(0, idNumber)
+            .map(UserRowMapper::toSummary)
+            .one()
+            .doOnNext(user -> log.info("Found user with ID number {}", idNumber))
             .switchIfEmpty(Mono.defer(() -> {
                 log.warn("User with ID number {} not found", idNumber);
                 return Mono.error(new UserNotFoundException("No se ha encontrado un usuario con identificación " + idNumber));
@@ -98,16 +276,18 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
                 }
                 log.error("Error retrieving user with ID number {}: {}", idNumber, ex.getMessage(), ex);
                 return new DataRetrievalException("Error consultando usuario con identificación " + idNumber, ex);
-            })
-            .as(readOnlyTransactional::transactional); 
+            });
     }
 
     @Override
-    public Mono<User> getById(BigInteger id) {
+    public Mono<UserSummary> getById(BigInteger id) {
         log.info("Searching for user with ID: {}", id);
     
-        return findById(id)
-            .doOnNext(entity -> log.debug("Found user entity with ID {}: {}", id, entity))
+        return databaseClient.sql(USER_BY_ID_SQL)
+            .bind(0, id.longValue())
+            .map(UserRowMapper::toSummary)
+            .one()
+            .doOnNext(user -> log.info("Found user with ID {}", id))
             .switchIfEmpty(Mono.defer(() -> {
                 log.warn("User with ID {} not found", id);
                 return Mono.error(new UserNotFoundException("No se ha encontrado un usuario con ID " + id));
@@ -118,24 +298,63 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
                 }
                 log.error("Error retrieving user with ID {}: {}", id, ex.getMessage(), ex);
                 return new DataRetrievalException("Error consultando usuario con ID " + id, ex);
+            });
+    }
+
+    @Override
+    public Mono<UserUpdate> updateUser(User changes) {
+        log.info("Attempting partial update of user with ID number: {}", changes.getIdNumber());
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(UPDATE_USER_SQL)
+            .bind(0, changes.getIdNumber())
+            .bind(1, changes.getEmail())
+            .bind(2, changes.getIdTypeId())
+            .bind(3, changes.getName())
+            .bind(4, changes.getLastname());
+        spec = bindNullable(spec, 5, changes.getBirthDate(), LocalDate.class);
+        spec = bindNullable(spec, 6, changes.getAddress(), String.class);
+        spec = bindNullable(spec, 7, changes.getPhone(), String.class);
+        spec = bindNullable(spec, 8, changes.getBaseSalary(), Double.class);
+        spec = spec.bind(9, changes.getRoleId());
+        spec = bindNullable(spec, 10, changes.getPassword(), String.class);
+        spec = bindNullable(spec, 11, changes.getVersion(), Long.class);
+
+        return spec.map((row, rowMetadata) -> row.get("id") == null
+                ? UserUpdate.rejected(
+                    Boolean.TRUE.equals(row.get("id_number_found", Boolean.class)),
+                    Boolean.TRUE.equals(row.get("email_found", Boolean.class)),
+                    row.get("current_version", Long.class))
+                : UserUpdate.updated(UserRowMapper.toUser(row, rowMetadata)))
+            .one()
+            .doOnNext(update -> {
+                if (update.isUpdated()) {
+                    log.info("User with ID number {} updated to version {}", changes.getIdNumber(), update.user().getVersion());
+                } else {
+                    log.warn("User with ID number {} not updated (id number found: {}, email found: {}, current version: {})",
+                        changes.getIdNumber(), update.idNumberFound(), update.emailFound(), update.currentVersion());
+                }
             })
-            .as(readOnlyTransactional::transactional); 
+            .onErrorMap(ex -> {
+                log.error("Error updating user: {}", ex.getMessage(), ex);
+                return new DataPersistenceException("Error intentando actualizar el usuario", ex);
+            });
     }
 
     @Override
-    public Mono<User> editUser(Mono<User> user) {
-        return user
-            .doOnNext(userData -> log.info("Attempting to update user with ID: {}", userData.getIdNumber()))
-            .flatMap(userData ->
-                repository.save(toData(userData))
-                    .doOnNext(updatedEntity -> log.info("User entity with ID {} successfully updated", updatedEntity.getIdNumber()))
-                    .map(this::toEntity)
-                    .doOnNext(updatedUser -> log.info("User with ID {} successfully updated", updatedUser.getIdNumber()))
-                    .onErrorMap(ex -> {
-                        log.error("Error updating user: {}", ex.getMessage(), ex);
-                        return new DataPersistenceException("Error intentando actualizar el usuario", ex);
-                    })
-            )
+    public Mono<Void> updatePassword(BigInteger id, String hashedPassword) {
+        log.info("Updating password hash for user with ID: {}", id);
+
+        return databaseClient.sql("UPDATE users SET password = $1 WHERE id = $2")
+            .bind(0, hashedPassword)
+            .bind(1, id.longValue())
+            .fetch()
+            .rowsUpdated()
+            .doOnNext(rows -> log.info("Password hash updated for user with ID {} ({} rows)", id, rows))
+            .then()
+            .onErrorMap(ex -> {
+                log.error("Error updating password hash for user with ID {}: {}", id, ex.getMessage(), ex);
+                return new DataPersistenceException("Error intentando actualizar la contraseña del usuario con ID " + id, ex);
+            })
             .as(writeTransactional::transactional);
     }
 
@@ -143,35 +362,48 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
     public Mono<Void> deleteUser(Long idNumber) {
         log.info("Attempting to delete user with ID number: {}", idNumber);
     
-        return repository.findByIdNumber(idNumber)
-            .switchIfEmpty(Mono.defer(() -> {
-                log.warn("User with ID number {} not found for deletion", idNumber);
-                return Mono.error(new UserNotFoundException("No se ha encontrado un usuario con identificación " + idNumber));
-            }))
-            .flatMap(existingUser -> {
-                log.info("Deleting user with ID: {}", existingUser.getId());
-                return repository.deleteById(existingUser.getId());
-            })
-            .then()
-            .doOnSuccess(v -> log.info("Successfully deleted user with ID number: {}", idNumber))
+        // Un solo DELETE en auto-commit: el número de filas afectadas indica si el usuario existía
+        return databaseClient.sql(DELETE_USER_SQL)
+            .bind(0, idNumber)
+            .fetch()
+            .rowsUpdated()
             .onErrorMap(ex -> {
-                if (ex instanceof UserNotFoundException) {
-                    return ex;
-                }
                 log.error("Error deleting user with ID number {}: {}", idNumber, ex.getMessage(), ex);
                 return new DataPersistenceException("Error intentando eliminar el usuario con número de identificación " + idNumber, ex);
             })
-            .as(writeTransactional::transactional);
+            .flatMap(deleted -> {
+                if (deleted == 0) {
+                    log.warn("User with ID number {} not found for deletion", idNumber);
+                    return Mono.error(new UserNotFoundException("No se ha encontrado un usuario con identificación " + idNumber));
+                }
+                log.info("Successfully deleted user with ID number: {}", idNumber);
+                return Mono.<Void>empty();
+            });
+    }
+
+    @Override
+    public Flux<Long> deleteUsers(List<Long> idNumbers) {
+        log.info("Attempting to delete {} users by ID number", idNumbers.size());
+
+        return databaseClient.sql(DELETE_USERS_SQL)
+            .bind(0, idNumbers.toArray(Long[]::new))
+            .map((row, rowMetadata) -> row.get(0, Long.class))
+            .all()
+            .onErrorMap(ex -> {
+                log.error("Error deleting users by ID number: {}", ex.getMessage(), ex);
+                return new DataPersistenceException("Error intentando eliminar los usuarios", ex);
+            });
     }
 
     @Override
-    public Mono<User> getByEmail(String email) {
+    public Mono<UserSummary> getByEmail(String email) {
         log.info("Searching for user with email: {}", email);
     
-        return repository.findByEmail(email)
-            .doOnNext(entity -> log.debug("Found user entity with email {}: {}", email, entity))
-            .map(this::toEntity)
-            .doOnNext(user -> log.info("Successfully mapped user with email {}: {}", email))
+        return databaseClient.sql(USER_BY_EMAIL_SQL)
+            .bind(0, email)
+            .map(UserRowMapper::toSummary)
+            .one()
+            .doOnNext(user -> log.info("Found user with email {}", email))
             .switchIfEmpty(Mono.defer(() -> {
                 log.warn("User with ID number {} not found", email);
                 return Mono.error(new UserNotFoundException("No se ha encontrado un usuario con email " + email));
@@ -182,97 +414,70 @@ public class UserReactiveRepositoryAdapter extends ReactiveAdapterOperations<
                 }
                 log.error("Error retrieving user with email {}: {}", email, ex.getMessage(), ex);
                 return new DataRetrievalException("Error consultando usuario con email " + email, ex);
-            })
-            .as(readOnlyTransactional::transactional); 
+            });
     }
     
     @Override
-    public Mono<User> findByEmailOrIdNumber(String email, Long idNumber) {
-        log.info("Starting search for users with email: {} OR idNumber: {}", email, idNumber);
-        
-        if ((email == null || email.trim().isEmpty()) && idNumber == null) {
-            log.warn("Both email and idNumber are null or empty, returning empty result");
-            return Mono.empty();
-        }
-
-        return repository.findByEmailOrIdNumber(email, idNumber)
-            .switchIfEmpty(Mono.defer(() -> {
-                log.info("No user found with email {} or idNumber {}", email, idNumber);
-                return Mono.empty();
-            }))
-            .doOnNext(entity -> log.debug("Found user entity with email {} or idNumber {}", email, idNumber))
-            .map(this::toEntity)
-            .doOnNext(user -> log.info("Successfully mapped user with email {} or idNumber {}", email, idNumber))
-            .onErrorMap(ex -> {
-                log.error("Error retrieving user with email {} or idNumber {}: {}", email, idNumber, ex.getMessage(), ex);
-                return new DataRetrievalException("Error consultando usuario con email " + email + "o número de identificación " + idNumber, ex);
-            })
-            .as(readOnlyTransactional::transactional); 
-    }
+    public Mono<UserCredentials> findCredentialsByEmail(String email) {
+        log.info("Searching for credentials of user with email: {}", email);
 
-    @Override
-    public Mono<Boolean> existByIdNumber(Long idNumber) {
-        log.info("Starting search for users with idNumber: {}", idNumber);
-        return repository.existsByIdNumber(idNumber)
+        // Sentencia única y autocommit: evita la segunda consulta de rol y el begin/commit del login
+        return databaseClient.sql(CREDENTIALS_BY_EMAIL_SQL)
+            .bind(0, email)
+            .map((row, rowMetadata) -> new UserCredentials(
+                BigInteger.valueOf(row.get("id", Long.class)),
+                row.get("password", String.class),
+                row.get("role_id", Integer.class)
+            ))
+            .one()
+            .doOnNext(credentials -> log.debug("Found credentials for user with email {}", email))
             .onErrorMap(ex -> {
-                log.error("Error retrieving user with idNumber {}", idNumber, ex.getMessage(), ex);
-                return new DataRetrievalException("Error consultando usuario con número de identificación " + idNumber, ex);
-            })
-            .as(readOnlyTransactional::transactional);
+                log.error("Error retrieving credentials for user with email {}: {}", email, ex.getMessage(), ex);
+                return new DataRetrievalException("Error consultando usuario con email " + email, ex);
+            });
     }
 
     @Override
-    public Flux<User> findUsersByEmails(List<String> userEmails) {
-        log.info("Retrieving users by emails: {}", userEmails);
+    public Flux<UserSummary> findUsersByEmails(List<String> userEmails) {
+        log.info("Retrieving users by {} emails", userEmails == null ? 0 : userEmails.size());
         
         if (userEmails == null || userEmails.isEmpty()) {
             return Flux.empty();
         }
         
-        StringBuilder placeholders = new StringBuilder();
-        for (int i = 0; i < userEmails.size(); i++) {
-            if (i > 0) {
-                placeholders.append(", ");
-            }
-            placeholders.append("$").append(i + 1);
-        }
-        
-        String sql = String.format("SELECT * FROM users WHERE email IN (%s)", placeholders);
-        
-        return executeQuery(sql, userEmails)
-            .map(this::toEntity)
-            .doOnNext(user -> log.debug("Retrieved user: {}", user.getEmail()))
+        // Un solo texto de sentencia sin importar el tamaño de la lista, así Postgres reutiliza el plan preparado
+        return databaseClient.sql(USERS_BY_EMAILS_SQL)
+            .bind(0, userEmails.toArray(String[]::new))
+            .map(UserRowMapper::toSummary)
+            .all()
+            .doOnNext(user -> log.debug("Retrieved user: {}", user.email()))
             .doOnComplete(() -> log.info("Finished retrieving users by emails"))
             .onErrorMap(ex -> {
                 log.error("Error retrieving users by emails", ex);
                 return new DataRetrievalException("Error al momento de consultar los usuarios por email", ex);
-            })
-            .as(readOnlyTransactional::transactional);
+            });
     }
 
-    private Flux<UserEntity> executeQuery(String sql, List<String> params) {
-        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
-        for (int i = 0; i < params.size(); i++) {
-            spec = spec.bind(i, params.get(i));
+    @Override
+    public Flux<UserSummary> findUsersByIdNumbers(List<Long> idNumbers) {
+        log.info("Retrieving users by {} ID numbers", idNumbers == null ? 0 : idNumbers.size());
+
+        if (idNumbers == null || idNumbers.isEmpty()) {
+            return Flux.empty();
         }
-        return spec.map((row, rowMetadata) -> mapRow(row)).all();
+
+        return databaseClient.sql(USERS_BY_ID_NUMBERS_SQL)
+            .bind(0, idNumbers.toArray(Long[]::new))
+            .map(UserRowMapper::toSummary)
+            .all()
+            .onErrorMap(ex -> {
+                log.error("Error retrieving users by ID numbers", ex);
+                return new DataRetrievalException("Error al momento de consultar los usuarios por número de identificación", ex);
+            });
     }
 
-    private UserEntity mapRow(Row row) {
-        UserEntity entity = new UserEntity();
-        entity.setId(row.get("id", BigInteger.class));
-        entity.setIdNumber(row.get("id_number", Long.class));
-        entity.setIdTypeId(row.get("id_type_id", Integer.class));
-        entity.setName(row.get("name", String.class));
-        entity.setLastname(row.get("lastname", String.class));
-        entity.setBirthDate(row.get("birth_date", LocalDate.class));
-        entity.setAddress(row.get("address", String.class));
-        entity.setPhone(row.get("phone", String.class));
-        entity.setEmail(row.get("email", String.class));
-        entity.setBaseSalary(row.get("base_salary", Double.class));
-        entity.setRoleId(row.get("role_id", Integer.class));
-        entity.setPassword(row.get("password", String.class));
-        return entity;
+    private static <T> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, int index, T value, Class<T> type) {
+        return value == null ? spec.bindNull(index, type) : spec.bind(index, value);
     }
 
 }
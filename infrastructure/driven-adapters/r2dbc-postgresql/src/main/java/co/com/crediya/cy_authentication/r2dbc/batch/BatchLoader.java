@@ -0,0 +1,89 @@
+package co.com.crediya.cy_authentication.r2dbc.batch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+// Agrupa las llaves que llegan dentro de la ventana (o hasta completar maxKeys) en una sola consulta
+// y reparte cada resultado al suscriptor que lo pidió; una llave sin resultado completa vacío.
+// Las llaves entran por un FluxSink serializado para admitir llamadas concurrentes sin reintentos activos
+public class BatchLoader<K, V> implements Disposable {
+
+    private final FluxSink<PendingLoad<K, V>> pending;
+    private final Function<List<K>, Flux<V>> loader;
+    private final Function<V, K> keyExtractor;
+    private final DistributionSummary batchSizes;
+    private final Disposable dispatcher;
+
+    public BatchLoader(
+        int maxKeys,
+        Duration window,
+        Function<List<K>, Flux<V>> loader,
+        Function<V, K> keyExtractor,
+        DistributionSummary batchSizes
+    ) {
+        this.loader = loader;
+        this.keyExtractor = keyExtractor;
+        this.batchSizes = batchSizes;
+        AtomicReference<FluxSink<PendingLoad<K, V>>> sink = new AtomicReference<>();
+        this.dispatcher = Flux.<PendingLoad<K, V>>create(sink::set, FluxSink.OverflowStrategy.BUFFER)
+            .bufferTimeout(maxKeys, window, true)
+            .flatMap(this::dispatch)
+            .subscribe();
+        this.pending = sink.get();
+    }
+
+    public Mono<V> load(K key) {
+        return Mono.defer(() -> {
+            if (pending.isCancelled()) {
+                return Mono.error(new IllegalStateException("El agrupador de consultas ya fue cerrado"));
+            }
+            Sinks.One<V> result = Sinks.one();
+            pending.next(new PendingLoad<>(key, result));
+            return result.asMono();
+        });
+    }
+
+    private Mono<Void> dispatch(List<PendingLoad<K, V>> batch) {
+        List<K> keys = batch.stream().map(PendingLoad::key).distinct().toList();
+        batchSizes.record(keys.size());
+
+        return loader.apply(keys)
+            .collectMap(keyExtractor)
+            .doOnNext(found -> batch.forEach(load -> load.complete(found.get(load.key()))))
+            .onErrorResume(ex -> {
+                batch.forEach(load -> load.result().tryEmitError(ex));
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    @Override
+    public void dispose() {
+        pending.complete();
+        dispatcher.dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return dispatcher.isDisposed();
+    }
+
+    private record PendingLoad<K, V>(K key, Sinks.One<V> result) {
+        void complete(V value) {
+            if (value == null) {
+                result.tryEmitEmpty();
+            } else {
+                result.tryEmitValue(value);
+            }
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package co.com.crediya.cy_authentication.r2dbc.batch;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import co.com.crediya.cy_authentication.exception.UserNotFoundException;
+import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.model.user.gateways.UserRepository;
+import co.com.crediya.cy_authentication.model.user.record.UserCreation;
+import co.com.crediya.cy_authentication.model.user.record.UserCredentials;
+import co.com.crediya.cy_authentication.model.user.record.UserPageItem;
+import co.com.crediya.cy_authentication.model.user.record.UserPageQuery;
+import co.com.crediya.cy_authentication.model.user.record.UserSummary;
+import co.com.crediya.cy_authentication.model.user.record.UserUpdate;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Primary
+@Repository
+@Slf4j
+public class BatchingUserRepository implements UserRepository, DisposableBean {
+
+    private static final String METRIC_NAME = "users.lookup.batch.size";
+
+    private final UserRepository delegate;
+    private final boolean enabled;
+    private final BatchLoader<Long, UserSummary> byIdNumber;
+    private final BatchLoader<String, UserSummary> byEmail;
+
+    public BatchingUserRepository(
+        @Qualifier("userReactiveRepositoryAdapter") UserRepository delegate,
+        @Value("${users.lookup-batching.enabled:true}") boolean enabled,
+        @Value("${users.lookup-batching.window:2ms}") Duration window,
+        @Value("${users.lookup-batching.max-keys:100}") int maxKeys,
+        MeterRegistry meterRegistry
+    ) {
+        this.delegate = delegate;
+        this.enabled = enabled;
+        this.byIdNumber = new BatchLoader<>(maxKeys, window, delegate::findUsersByIdNumbers, UserSummary::idNumber,
+            batchSizes(meterRegistry, "idNumber"));
+        this.byEmail = new BatchLoader<>(maxKeys, window, delegate::findUsersByEmails, UserSummary::email,
+            batchSizes(meterRegistry, "email"));
+
+        log.info("User lookup batching {} (window {}, max keys {})", enabled ? "enabled" : "disabled", window, maxKeys);
+    }
+
+    private static DistributionSummary batchSizes(MeterRegistry meterRegistry, String lookup) {
+        return DistributionSummary.builder(METRIC_NAME)
+            .description("Llaves distintas por consulta agrupada de usuarios")
+            .tag("lookup", lookup)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<UserSummary> getByIdNumber(Long idNumber) {
+        if (!enabled) {
+            return delegate.getByIdNumber(idNumber);
+        }
+        return byIdNumber.load(idNumber)
+            .switchIfEmpty(Mono.error(() ->
+                new UserNotFoundException("No se ha encontrado un usuario con identificación " + idNumber)));
+    }
+
+    @Override
+    public Mono<UserSummary> getByEmail(String email) {
+        if (!enabled) {
+            return delegate.getByEmail(email);
+        }
+        return byEmail.load(email)
+            .switchIfEmpty(Mono.error(() ->
+                new UserNotFoundException("No se ha encontrado un usuario con email " + email)));
+    }
+
+    @Override
+    public Mono<UserCreation> createUser(User user) {
+        return delegate.createUser(user);
+    }
+
+    @Override
+    public Flux<UserCreation> createUsers(List<User> users) {
+        return delegate.createUsers(users);
+    }
+
+    @Override
+    public Flux<User> getAllUsers() {
+        return delegate.getAllUsers();
+    }
+
+    @Override
+    public Flux<UserPageItem> findUsersPage(UserPageQuery query) {
+        return delegate.findUsersPage(query);
+    }
+
+    @Override
+    public Flux<UserSummary> findUsersByEmails(List<String> userEmails) {
+        return delegate.findUsersByEmails(userEmails);
+    }
+
+    @Override
+    public Flux<UserSummary> findUsersByIdNumbers(List<Long> idNumbers) {
+        return delegate.findUsersByIdNumbers(idNumbers);
+    }
+
+    @Override
+    public Mono<UserCredentials> findCredentialsByEmail(String email) {
+        return delegate.findCredentialsByEmail(email);
+    }
+
+    @Override
+    public Mono<UserSummary> getById(BigInteger id) {
+        return delegate.getById(id);
+    }
+
+    @Override
+    public Mono<UserUpdate> updateUser(User changes) {
+        return delegate.updateUser(changes);
+    }
+
+    @Override
+    public Mono<Void> updatePassword(BigInteger id, String hashedPassword) {
+        return delegate.updatePassword(id, hashedPassword);
+    }
+
+    @Override
+    public Mono<Void> deleteUser(Long idNumber) {
+        return delegate.deleteUser(idNumber);
+    }
+
+    @Override
+    public Flux<Long> deleteUsers(List<Long> idNumbers) {
+        return delegate.deleteUsers(idNumbers);
+    }
+
+    @Override
+    public void destroy() {
+        byIdNumber.dispose();
+        byEmail.dispose();
+    }
+}
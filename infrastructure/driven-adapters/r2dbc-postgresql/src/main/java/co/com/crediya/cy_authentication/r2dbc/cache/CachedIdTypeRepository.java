@@ -0,0 +1,43 @@
+package co.com.crediya.cy_authentication.r2dbc.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import co.com.crediya.cy_authentication.model.idtype.IdType;
+import co.com.crediya.cy_authentication.model.idtype.gateways.IdTypeRepository;
+import co.com.crediya.cy_authentication.r2dbc.IdTypeReactiveRepositoryAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Primary
+@Repository
+public class CachedIdTypeRepository extends ReferenceDataCache<IdType> implements IdTypeRepository {
+
+    private final IdTypeReactiveRepositoryAdapter delegate;
+
+    public CachedIdTypeRepository(
+        IdTypeReactiveRepositoryAdapter delegate,
+        @Value("${reference-data.refresh-interval:10m}") Duration refreshInterval
+    ) {
+        super("idTypes", refreshInterval, IdType::getId);
+        this.delegate = delegate;
+    }
+
+    @Override
+    protected Flux<IdType> loadAll() {
+        return delegate.getAllIdTypes();
+    }
+
+    @Override
+    public Flux<IdType> getAllIdTypes() {
+        return cachedAll(delegate::getAllIdTypes);
+    }
+
+    @Override
+    public Mono<IdType> getIdTypeById(Integer idTypeId) {
+        return cachedById(idTypeId, () -> delegate.getIdTypeById(idTypeId));
+    }
+}
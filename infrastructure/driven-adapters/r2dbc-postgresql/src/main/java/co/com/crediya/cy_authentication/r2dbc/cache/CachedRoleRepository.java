@@ -0,0 +1,43 @@
+package co.com.crediya.cy_authentication.r2dbc.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import co.com.crediya.cy_authentication.model.role.Role;
+import co.com.crediya.cy_authentication.model.role.gateways.RoleRepository;
+import co.com.crediya.cy_authentication.r2dbc.RoleReactiveRepositoryAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Primary
+@Repository
+public class CachedRoleRepository extends ReferenceDataCache<Role> implements RoleRepository {
+
+    private final RoleReactiveRepositoryAdapter delegate;
+
+    public CachedRoleRepository(
+        RoleReactiveRepositoryAdapter delegate,
+        @Value("${reference-data.refresh-interval:10m}") Duration refreshInterval
+    ) {
+        super("roles", refreshInterval, Role::getId);
+        this.delegate = delegate;
+    }
+
+    @Override
+    protected Flux<Role> loadAll() {
+        return delegate.getAllRoles();
+    }
+
+    @Override
+    public Flux<Role> getAllRoles() {
+        return cachedAll(delegate::getAllRoles);
+    }
+
+    @Override
+    public Mono<Role> getRoleById(Integer roleId) {
+        return cachedById(roleId, () -> delegate.getRoleById(roleId));
+    }
+}
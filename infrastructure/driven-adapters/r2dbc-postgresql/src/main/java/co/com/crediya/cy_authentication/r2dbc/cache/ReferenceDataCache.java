@@ -0,0 +1,92 @@
+package co.com.crediya.cy_authentication.r2dbc.cache;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import org.springframework.context.SmartLifecycle;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+public abstract class ReferenceDataCache<T> implements SmartLifecycle {
+
+    private final String name;
+    private final Duration refreshInterval;
+    private final ToIntFunction<T> idExtractor;
+
+    private volatile ReferenceDataSnapshot<T> snapshot;
+    private volatile Disposable scheduledRefresh;
+
+    protected ReferenceDataCache(String name, Duration refreshInterval, ToIntFunction<T> idExtractor) {
+        this.name = name;
+        this.refreshInterval = refreshInterval;
+        this.idExtractor = idExtractor;
+    }
+
+    protected abstract Flux<T> loadAll();
+
+    public String getName() {
+        return name;
+    }
+
+    public int size() {
+        ReferenceDataSnapshot<T> current = snapshot;
+        return current == null ? 0 : current.size();
+    }
+
+    public Mono<Void> refresh() {
+        return loadAll()
+            .collectList()
+            .map(items -> ReferenceDataSnapshot.of(items, idExtractor))
+            .doOnNext(loaded -> {
+                snapshot = loaded;
+                log.info("Reference data '{}' refreshed with {} entries", name, loaded.size());
+            })
+            .then();
+    }
+
+    protected Mono<T> cachedById(Integer id, Supplier<Mono<T>> fallback) {
+        ReferenceDataSnapshot<T> current = snapshot;
+        T cached = current == null ? null : current.get(id);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        log.debug("Reference data '{}' miss for ID {}, querying database", name, id);
+        return fallback.get();
+    }
+
+    protected Flux<T> cachedAll(Supplier<Flux<T>> fallback) {
+        ReferenceDataSnapshot<T> current = snapshot;
+        return current == null ? fallback.get() : Flux.fromIterable(current.all());
+    }
+
+    @Override
+    public void start() {
+        scheduledRefresh = Flux.interval(Duration.ZERO, refreshInterval)
+            .concatMap(tick -> refresh()
+                .onErrorResume(ex -> {
+                    log.warn("Could not refresh reference data '{}', keeping previous snapshot", name, ex);
+                    return Mono.empty();
+                }))
+            .subscribe();
+    }
+
+    @Override
+    public void stop() {
+        Disposable current = scheduledRefresh;
+        if (current != null) {
+            current.dispose();
+        }
+        scheduledRefresh = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        Disposable current = scheduledRefresh;
+        return current != null && !current.isDisposed();
+    }
+}
@@ -0,0 +1,35 @@
+package co.com.crediya.cy_authentication.r2dbc.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@Endpoint(id = "referencedata")
+@RequiredArgsConstructor
+public class ReferenceDataEndpoint {
+
+    private final List<ReferenceDataCache<?>> caches;
+
+    @ReadOperation
+    public Map<String, Integer> sizes() {
+        return caches.stream()
+            .collect(Collectors.toMap(ReferenceDataCache::getName, ReferenceDataCache::size));
+    }
+
+    @WriteOperation
+    public Mono<Map<String, Integer>> refresh() {
+        return Flux.fromIterable(caches)
+            .flatMap(ReferenceDataCache::refresh)
+            .then(Mono.fromSupplier(this::sizes));
+    }
+}
@@ -0,0 +1,43 @@
+package co.com.crediya.cy_authentication.r2dbc.cache;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+final class ReferenceDataSnapshot<T> {
+
+    private final Object[] byId;
+    private final List<T> all;
+
+    private ReferenceDataSnapshot(Object[] byId, List<T> all) {
+        this.byId = byId;
+        this.all = all;
+    }
+
+    static <T> ReferenceDataSnapshot<T> of(List<T> items, ToIntFunction<T> idExtractor) {
+        int maxId = items.stream().mapToInt(idExtractor).max().orElse(-1);
+        Object[] byId = new Object[maxId + 1];
+        for (T item : items) {
+            int id = idExtractor.applyAsInt(item);
+            if (id >= 0) {
+                byId[id] = item;
+            }
+        }
+        return new ReferenceDataSnapshot<>(byId, List.copyOf(items));
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(Integer id) {
+        if (id == null || id < 0 || id >= byId.length) {
+            return null;
+        }
+        return (T) byId[id];
+    }
+
+    List<T> all() {
+        return all;
+    }
+
+    int size() {
+        return all.size();
+    }
+}
@@ -0,0 +1,52 @@
+package co.com.crediya.cy_authentication.r2dbc.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+@Component
+@Endpoint(id = "connectionpool")
+@RequiredArgsConstructor
+public class ConnectionPoolEndpoint {
+
+    private final ResizableConnectionPool pool;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        PostgresqlPoolProperties properties = pool.getProperties();
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("name", pool.getName());
+        status.put("initialSize", properties.initialSize());
+        status.put("maxSize", properties.maxSize());
+        pool.getMetrics().ifPresent(metrics -> {
+            status.put("acquired", metrics.acquiredSize());
+            status.put("allocated", metrics.allocatedSize());
+            status.put("idle", metrics.idleSize());
+            status.put("pending", metrics.pendingAcquireSize());
+        });
+        return status;
+    }
+
+    @WriteOperation
+    public Mono<Map<String, Object>> resize(int maxSize, @Nullable Integer initialSize) {
+        int initial = initialSize == null ? Math.min(pool.getProperties().initialSize(), maxSize) : initialSize;
+        // Se valida antes de crear el pool nuevo para responder 400 sin tocar el pool en uso
+        if (maxSize < 1 || initial < 0 || initial > maxSize) {
+            String reason = "Tamaño de pool inválido: initialSize=" + initial + ", maxSize=" + maxSize;
+            return Mono.error(new InvalidEndpointRequestException(reason, reason));
+        }
+        return pool.resize(initial, maxSize)
+            .map(resized -> status())
+            .onErrorMap(ex -> ex instanceof IllegalArgumentException || ex instanceof IllegalStateException,
+                ex -> new InvalidEndpointRequestException(ex.getMessage(), ex.getMessage()));
+    }
+}
@@ -0,0 +1,47 @@
+package co.com.crediya.cy_authentication.r2dbc.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToIntFunction;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.r2dbc.pool.PoolMetrics;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class ConnectionPoolMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "r2dbc.pool";
+
+    private final ResizableConnectionPool pool;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // Los gauges leen siempre el pool vigente, así siguen siendo válidos después de un resize
+        gauge(registry, "acquired", "Conexiones en uso", PoolMetrics::acquiredSize);
+        gauge(registry, "allocated", "Conexiones creadas (en uso + ociosas)", PoolMetrics::allocatedSize);
+        gauge(registry, "idle", "Conexiones ociosas", PoolMetrics::idleSize);
+        gauge(registry, "pending", "Solicitudes esperando una conexión", PoolMetrics::pendingAcquireSize);
+        gauge(registry, "max.allocated", "Tamaño máximo del pool", PoolMetrics::getMaxAllocatedSize);
+        gauge(registry, "max.pending", "Máximo de solicitudes en espera", PoolMetrics::getMaxPendingAcquireSize);
+
+        Timer acquireTimer = Timer.builder(METRIC_PREFIX + ".acquire")
+            .description("Tiempo para obtener una conexión del pool")
+            .tag("name", pool.getName())
+            .publishPercentileHistogram()
+            .register(registry);
+        pool.onAcquire(nanos -> acquireTimer.record(nanos, TimeUnit.NANOSECONDS));
+    }
+
+    private void gauge(MeterRegistry registry, String name, String description, ToIntFunction<PoolMetrics> value) {
+        Gauge.builder(METRIC_PREFIX + "." + name, pool, p -> p.getMetrics().map(value::applyAsInt).orElse(0))
+            .description(description)
+            .tag("name", pool.getName())
+            .register(registry);
+    }
+}
@@ -0,0 +1,10 @@
+package co.com.crediya.cy_authentication.r2dbc.config;
+
+public enum PoolValidation {
+    /** Solo revisa el estado local de la conexión, sin ida y vuelta al servidor. */
+    LOCAL,
+    /** Validación local y descarte de conexiones que superan el umbral de inactividad. */
+    IDLE,
+    /** Ejecuta la validation-query en cada adquisición. */
+    REMOTE
+}
@@ -4,6 +4,8 @@ import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ValidationDepth;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,9 +17,11 @@ public class PostgreSQLConnectionPool {
     public static final int MAX_SIZE = 15;
     public static final int MAX_IDLE_TIME = 30;
     public static final int DEFAULT_PORT = 5432;
+    public static final String POOL_NAME = "api-postgres-connection-pool";
 
-	@Bean
-	public ConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties) {
+	@Bean(destroyMethod = "dispose")
+	public ResizableConnectionPool getConnectionConfig(PostgresqlConnectionProperties properties,
+	                                                   PostgresqlPoolProperties poolProperties) {
 		PostgresqlConnectionConfiguration dbConfiguration = PostgresqlConnectionConfiguration.builder()
                 .host(properties.host())
                 .port(properties.port())
@@ -26,16 +30,41 @@ public class PostgreSQLConnectionPool {
                 .username(properties.username())
                 .password(properties.password())
                 .build();
+        PostgresqlConnectionFactory connectionFactory = new PostgresqlConnectionFactory(dbConfiguration);
 
-        ConnectionPoolConfiguration poolConfiguration = ConnectionPoolConfiguration.builder()
-                .connectionFactory(new PostgresqlConnectionFactory(dbConfiguration))
-                .name("api-postgres-connection-pool")
-                .initialSize(INITIAL_SIZE)
-                .maxSize(MAX_SIZE)
-                .maxIdleTime(Duration.ofMinutes(MAX_IDLE_TIME))
-                .validationQuery("SELECT 1")
-                .build();
-
-		return new ConnectionPool(poolConfiguration);
+		return new ResizableConnectionPool(POOL_NAME, poolProperties,
+            pool -> new ConnectionPool(poolConfiguration(connectionFactory, POOL_NAME, pool)));
 	}
-}
\ No newline at end of file
+
+    public static ConnectionPoolConfiguration poolConfiguration(ConnectionFactory connectionFactory, String name,
+                                                                PostgresqlPoolProperties pool) {
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration.builder()
+                .connectionFactory(connectionFactory)
+                .name(name)
+                .initialSize(pool.initialSize())
+                .maxSize(pool.maxSize())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .maxAcquireTime(pool.maxAcquireTime())
+                .maxCreateConnectionTime(pool.maxCreateConnectionTime())
+                .backgroundEvictionInterval(pool.backgroundEvictionInterval())
+                .acquireRetry(pool.acquireRetry());
+
+        switch (pool.validation()) {
+            case REMOTE -> builder.validationQuery(pool.validationQuery());
+            case LOCAL -> builder.validationDepth(ValidationDepth.LOCAL);
+            case IDLE -> {
+                // r2dbc-pool no valida por antigüedad: se desalojan las conexiones ociosas más allá del umbral
+                Duration threshold = pool.idleValidationThreshold();
+                builder.validationDepth(ValidationDepth.LOCAL)
+                    .maxIdleTime(min(pool.maxIdleTime(), threshold))
+                    .backgroundEvictionInterval(min(pool.backgroundEvictionInterval(), threshold.dividedBy(2)));
+            }
+        }
+        return builder.build();
+    }
+
+    private static Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+}
@@ -0,0 +1,49 @@
+package co.com.crediya.cy_authentication.r2dbc.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "spring.r2dbc.pool")
+public record PostgresqlPoolProperties(
+        Integer initialSize,
+        Integer maxSize,
+        Duration maxIdleTime,
+        Duration maxLifeTime,
+        Duration maxAcquireTime,
+        Duration maxCreateConnectionTime,
+        Duration backgroundEvictionInterval,
+        Integer acquireRetry,
+        PoolValidation validation,
+        String validationQuery,
+        Duration idleValidationThreshold,
+        Duration drainTimeout) {
+
+    public PostgresqlPoolProperties {
+        initialSize = initialSize == null ? PostgreSQLConnectionPool.INITIAL_SIZE : initialSize;
+        maxSize = maxSize == null ? PostgreSQLConnectionPool.MAX_SIZE : maxSize;
+        maxIdleTime = maxIdleTime == null ? Duration.ofMinutes(PostgreSQLConnectionPool.MAX_IDLE_TIME) : maxIdleTime;
+        maxLifeTime = maxLifeTime == null ? Duration.ofHours(1) : maxLifeTime;
+        maxAcquireTime = maxAcquireTime == null ? Duration.ofSeconds(5) : maxAcquireTime;
+        maxCreateConnectionTime = maxCreateConnectionTime == null ? Duration.ofSeconds(5) : maxCreateConnectionTime;
+        backgroundEvictionInterval = backgroundEvictionInterval == null ? Duration.ofMinutes(1) : backgroundEvictionInterval;
+        acquireRetry = acquireRetry == null ? 1 : acquireRetry;
+        validation = validation == null ? PoolValidation.LOCAL : validation;
+        validationQuery = validationQuery == null ? "SELECT 1" : validationQuery;
+        idleValidationThreshold = idleValidationThreshold == null ? Duration.ofMinutes(5) : idleValidationThreshold;
+        drainTimeout = drainTimeout == null ? Duration.ofSeconds(30) : drainTimeout;
+        if (initialSize < 0 || maxSize < 1 || initialSize > maxSize) {
+            throw new IllegalArgumentException("Tamaño de pool inválido: initial-size=" + initialSize + ", max-size=" + maxSize);
+        }
+    }
+
+    public static PostgresqlPoolProperties defaults() {
+        return new PostgresqlPoolProperties(null, null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    public PostgresqlPoolProperties withSize(int newInitialSize, int newMaxSize) {
+        return new PostgresqlPoolProperties(newInitialSize, newMaxSize, maxIdleTime, maxLifeTime, maxAcquireTime,
+            maxCreateConnectionTime, backgroundEvictionInterval, acquireRetry, validation, validationQuery,
+            idleValidationThreshold, drainTimeout);
+    }
+}
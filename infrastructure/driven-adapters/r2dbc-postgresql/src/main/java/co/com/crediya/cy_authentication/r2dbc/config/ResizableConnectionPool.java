@@ -0,0 +1,132 @@
+package co.com.crediya.cy_authentication.r2dbc.config;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * ConnectionFactory que delega en un ConnectionPool reemplazable: r2dbc-pool no permite
+ * cambiar su tamaño en caliente, así que un resize crea un pool nuevo y drena el anterior.
+ * El cambio corre desacoplado de quien lo pide y solo se admite uno a la vez.
+ */
+@Slf4j
+public class ResizableConnectionPool implements ConnectionFactory, Disposable {
+
+    private static final Duration DRAIN_CHECK_INTERVAL = Duration.ofMillis(200);
+
+    private final String name;
+    private final Function<PostgresqlPoolProperties, ConnectionPool> poolFactory;
+    private final AtomicReference<PooledGeneration> current;
+    private final AtomicBoolean resizing = new AtomicBoolean();
+    private volatile LongConsumer acquireListener = nanos -> { };
+
+    public ResizableConnectionPool(String name, PostgresqlPoolProperties properties,
+                                   Function<PostgresqlPoolProperties, ConnectionPool> poolFactory) {
+        this.name = name;
+        this.poolFactory = poolFactory;
+        this.current = new AtomicReference<>(new PooledGeneration(properties, poolFactory.apply(properties)));
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return current.get().pool().create()
+                .doOnSuccess(connection -> acquireListener.accept(System.nanoTime() - start));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return current.get().pool().getMetadata();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PostgresqlPoolProperties getProperties() {
+        return current.get().properties();
+    }
+
+    public Optional<PoolMetrics> getMetrics() {
+        return current.get().pool().getMetrics();
+    }
+
+    public void onAcquire(LongConsumer listener) {
+        this.acquireListener = listener;
+    }
+
+    /**
+     * Completa cuando el pool nuevo ya atiende conexiones. El drenado y cierre del anterior siguen
+     * en segundo plano aunque quien llamó cancele, y hasta que terminan se rechaza otro resize.
+     */
+    public Mono<PostgresqlPoolProperties> resize(int initialSize, int maxSize) {
+        return Mono.defer(() -> {
+            PostgresqlPoolProperties resized = current.get().properties().withSize(initialSize, maxSize);
+            if (!resizing.compareAndSet(false, true)) {
+                return Mono.error(new IllegalStateException("Ya hay un cambio de tamaño en curso para el pool " + name));
+            }
+
+            Sinks.One<PostgresqlPoolProperties> swapped = Sinks.one();
+            ConnectionPool next = poolFactory.apply(resized);
+
+            // El pool nuevo solo reemplaza al actual si su warmup termina bien; si falla se descarta y el actual sigue
+            next.warmup()
+                .onErrorResume(ex -> next.disposeLater().onErrorComplete().then(Mono.error(ex)))
+                .then(Mono.fromSupplier(() -> current.getAndSet(new PooledGeneration(resized, next))))
+                .doOnNext(previous -> {
+                    log.info("Resized connection pool '{}' from max {} to max {}", name, previous.properties().maxSize(), maxSize);
+                    swapped.tryEmitValue(resized);
+                })
+                .flatMap(previous -> drain(previous.pool(), resized.drainTimeout())
+                    .then(previous.pool().disposeLater()))
+                .doOnTerminate(() -> resizing.set(false))
+                .subscribe(
+                    unused -> { },
+                    ex -> {
+                        log.error("Connection pool '{}' resize to max {} failed: {}", name, maxSize, ex.getMessage(), ex);
+                        swapped.tryEmitError(ex);
+                    });
+
+            return swapped.asMono();
+        });
+    }
+
+    private Mono<Void> drain(ConnectionPool pool, Duration timeout) {
+        return Flux.interval(DRAIN_CHECK_INTERVAL)
+            .filter(tick -> pool.getMetrics()
+                .map(metrics -> metrics.acquiredSize() == 0 && metrics.pendingAcquireSize() == 0)
+                .orElse(true))
+            .next()
+            .timeout(timeout, Mono.fromRunnable(() ->
+                log.warn("Connection pool '{}' did not drain within {}, disposing with connections in use", name, timeout)))
+            .then();
+    }
+
+    @Override
+    public void dispose() {
+        current.get().pool().dispose();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return current.get().pool().isDisposed();
+    }
+
+    private record PooledGeneration(PostgresqlPoolProperties properties, ConnectionPool pool) {}
+}
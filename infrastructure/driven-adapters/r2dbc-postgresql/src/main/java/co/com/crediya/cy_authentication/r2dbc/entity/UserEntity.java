@@ -4,6 +4,7 @@ import java.math.BigInteger;
 import java.time.LocalDate;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
@@ -44,4 +45,6 @@ public class UserEntity {
     private Integer roleId;
     @Column
     private String password;
+    @Version
+    private Long version;
 }
\ No newline at end of file
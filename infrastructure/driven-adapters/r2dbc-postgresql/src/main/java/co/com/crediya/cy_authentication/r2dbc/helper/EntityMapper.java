@@ -0,0 +1,7 @@
+package co.com.crediya.cy_authentication.r2dbc.helper;
+
+public interface EntityMapper<E, D> {
+    D toData(E entity);
+
+    E toEntity(D data);
+}
@@ -0,0 +1,11 @@
+package co.com.crediya.cy_authentication.r2dbc.mapper;
+
+import org.mapstruct.Mapper;
+
+import co.com.crediya.cy_authentication.model.idtype.IdType;
+import co.com.crediya.cy_authentication.r2dbc.entity.IdTypeEntity;
+import co.com.crediya.cy_authentication.r2dbc.helper.EntityMapper;
+
+@Mapper(componentModel = "spring")
+public interface IdTypeEntityMapper extends EntityMapper<IdType, IdTypeEntity> {
+}
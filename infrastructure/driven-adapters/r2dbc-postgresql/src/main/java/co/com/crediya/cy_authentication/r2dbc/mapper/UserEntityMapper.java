@@ -0,0 +1,11 @@
+package co.com.crediya.cy_authentication.r2dbc.mapper;
+
+import org.mapstruct.Mapper;
+
+import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.r2dbc.entity.UserEntity;
+import co.com.crediya.cy_authentication.r2dbc.helper.EntityMapper;
+
+@Mapper(componentModel = "spring")
+public interface UserEntityMapper extends EntityMapper<User, UserEntity> {
+}
@@ -0,0 +1,70 @@
+package co.com.crediya.cy_authentication.r2dbc.mapper;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+
+import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.model.user.record.UserPageItem;
+import co.com.crediya.cy_authentication.model.user.record.UserSummary;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
+// Decodifica la fila directamente al dominio, sin pasar por UserEntity ni por el conversor de Spring Data
+public final class UserRowMapper {
+
+    // El orden de COLUMNS es el que lee toUser por índice. No incluye la contraseña: el hash solo se lee
+    // en la consulta de credenciales del login
+    public static final String COLUMNS =
+        "id, id_number, id_type_id, name, lastname, birth_date, address, phone, email, base_salary, role_id, version";
+
+    // Proyección del listado paginado, leída por toPageItem en este orden
+    public static final String PAGE_COLUMNS = "id, id_number, id_type_id, name, lastname, email, base_salary, role_id, version";
+
+    // Proyección de las consultas de información básica, leída por toSummary en este orden
+    public static final String SUMMARY_COLUMNS = "id_number, name, lastname, email, base_salary";
+
+    private UserRowMapper() {
+    }
+
+    public static User toUser(Row row, RowMetadata rowMetadata) {
+        return new User(
+            row.get(0, BigInteger.class),
+            row.get(1, Long.class),
+            row.get(2, Integer.class),
+            row.get(3, String.class),
+            row.get(4, String.class),
+            row.get(5, LocalDate.class),
+            row.get(6, String.class),
+            row.get(7, String.class),
+            row.get(8, String.class),
+            row.get(9, Double.class),
+            row.get(10, Integer.class),
+            null,
+            row.get(11, Long.class)
+        );
+    }
+
+    public static UserPageItem toPageItem(Row row, RowMetadata rowMetadata) {
+        return new UserPageItem(
+            row.get(0, BigInteger.class),
+            row.get(1, Long.class),
+            row.get(2, Integer.class),
+            row.get(3, String.class),
+            row.get(4, String.class),
+            row.get(5, String.class),
+            row.get(6, Double.class),
+            row.get(7, Integer.class),
+            row.get(8, Long.class)
+        );
+    }
+
+    public static UserSummary toSummary(Row row, RowMetadata rowMetadata) {
+        return new UserSummary(
+            row.get(0, Long.class),
+            row.get(1, String.class),
+            row.get(2, String.class),
+            row.get(3, String.class),
+            row.get(4, Double.class)
+        );
+    }
+}
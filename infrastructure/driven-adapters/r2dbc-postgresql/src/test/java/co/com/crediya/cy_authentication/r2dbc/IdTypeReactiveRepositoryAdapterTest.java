@@ -3,6 +3,7 @@ package co.com.crediya.cy_authentication.r2dbc;
 import co.com.crediya.cy_authentication.exception.DataRetrievalException;
 import co.com.crediya.cy_authentication.model.idtype.IdType;
 import co.com.crediya.cy_authentication.r2dbc.entity.IdTypeEntity;
+import co.com.crediya.cy_authentication.r2dbc.mapper.IdTypeEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -11,8 +12,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.reactivecommons.utils.ObjectMapper;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -30,10 +29,7 @@ class IdTypeReactiveRepositoryAdapterTest {
     private IdTypeReactiveRepository repository;
     
     @Mock
-    private ObjectMapper mapper;
-
-    @Mock
-    private TransactionalOperator readOnlyTransactional;
+    private IdTypeEntityMapper mapper;
 
     private IdTypeReactiveRepositoryAdapter adapter;
 
@@ -43,12 +39,7 @@ class IdTypeReactiveRepositoryAdapterTest {
     @SuppressWarnings("unchecked")
     @BeforeEach
     void setUp() {
-        when(readOnlyTransactional.transactional(any(Flux.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(readOnlyTransactional.transactional(any(Mono.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        adapter = new IdTypeReactiveRepositoryAdapter(repository, mapper, readOnlyTransactional);
+        adapter = new IdTypeReactiveRepositoryAdapter(repository, mapper);
 
         validIdType = IdType.builder()
                 .id(1)
@@ -67,7 +58,7 @@ class IdTypeReactiveRepositoryAdapterTest {
     void shouldGetAllIdTypesSuccessfully() {
         // Given
         when(repository.findAll()).thenReturn(Flux.just(validIdTypeEntity));
-        when(mapper.map(any(IdTypeEntity.class), any())).thenReturn(validIdType);
+        when(mapper.toEntity(any(IdTypeEntity.class))).thenReturn(validIdType);
 
         // When & Then
         StepVerifier.create(adapter.getAllIdTypes())
@@ -103,7 +94,7 @@ class IdTypeReactiveRepositoryAdapterTest {
     void shouldGetIdTypeByIdSuccessfully() {
         // Given
         when(repository.findById(1)).thenReturn(Mono.just(validIdTypeEntity));
-        when(mapper.map(any(IdTypeEntity.class), any())).thenReturn(validIdType);
+        when(mapper.toEntity(any(IdTypeEntity.class))).thenReturn(validIdType);
 
         // When & Then
         StepVerifier.create(adapter.getIdTypeById(1))
@@ -150,8 +141,8 @@ class IdTypeReactiveRepositoryAdapterTest {
         tiIdTypeEntity.setDescription("Tarjeta de Identidad");
 
         when(repository.findAll()).thenReturn(Flux.just(validIdTypeEntity, tiIdTypeEntity));
-        when(mapper.map(validIdTypeEntity, IdType.class)).thenReturn(validIdType);
-        when(mapper.map(tiIdTypeEntity, IdType.class)).thenReturn(tiIdType);
+        when(mapper.toEntity(validIdTypeEntity)).thenReturn(validIdType);
+        when(mapper.toEntity(tiIdTypeEntity)).thenReturn(tiIdType);
 
         // When & Then
         StepVerifier.create(adapter.getAllIdTypes())
@@ -3,6 +3,7 @@ package co.com.crediya.cy_authentication.r2dbc;
 import co.com.crediya.cy_authentication.exception.DataRetrievalException;
 import co.com.crediya.cy_authentication.model.role.Role;
 import co.com.crediya.cy_authentication.r2dbc.entity.RoleEntity;
+import co.com.crediya.cy_authentication.r2dbc.mapper.RoleEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
@@ -11,8 +12,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.reactivecommons.utils.ObjectMapper;
-import org.springframework.transaction.reactive.TransactionalOperator;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -30,10 +29,7 @@ class RoleReactiveRepositoryAdapterTest {
     private RoleReactiveReository repository;
     
     @Mock
-    private ObjectMapper mapper;
-
-    @Mock
-    private TransactionalOperator readOnlyTransactional;
+    private RoleEntityMapper mapper;
 
     private RoleReactiveRepositoryAdapter adapter;
 
@@ -43,12 +39,7 @@ class RoleReactiveRepositoryAdapterTest {
     @SuppressWarnings("unchecked")
     @BeforeEach
     void setUp() {
-        when(readOnlyTransactional.transactional(any(Flux.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-        when(readOnlyTransactional.transactional(any(Mono.class)))
-                .thenAnswer(invocation -> invocation.getArgument(0));
-
-        adapter = new RoleReactiveRepositoryAdapter(repository, mapper, readOnlyTransactional);
+        adapter = new RoleReactiveRepositoryAdapter(repository, mapper);
 
         validRole = Role.builder()
                 .id(1)
@@ -67,7 +58,7 @@ class RoleReactiveRepositoryAdapterTest {
     void shouldGetAllRolesSuccessfully() {
         // Given
         when(repository.findAll()).thenReturn(Flux.just(validRoleEntity));
-        when(mapper.map(any(RoleEntity.class), any())).thenReturn(validRole);
+        when(mapper.toEntity(any(RoleEntity.class))).thenReturn(validRole);
 
         // When & Then
         StepVerifier.create(adapter.getAllRoles())
@@ -103,7 +94,7 @@ class RoleReactiveRepositoryAdapterTest {
     void shouldGetRoleByIdSuccessfully() {
         // Given
         when(repository.findById(1)).thenReturn(Mono.just(validRoleEntity));
-        when(mapper.map(any(RoleEntity.class), any())).thenReturn(validRole);
+        when(mapper.toEntity(any(RoleEntity.class))).thenReturn(validRole);
 
         // When & Then
         StepVerifier.create(adapter.getRoleById(1))
@@ -150,8 +141,8 @@ class RoleReactiveRepositoryAdapterTest {
         userRoleEntity.setDescription("Standard user role");
 
         when(repository.findAll()).thenReturn(Flux.just(validRoleEntity, userRoleEntity));
-        when(mapper.map(validRoleEntity, Role.class)).thenReturn(validRole);
-        when(mapper.map(userRoleEntity, Role.class)).thenReturn(userRole);
+        when(mapper.toEntity(validRoleEntity)).thenReturn(validRole);
+        when(mapper.toEntity(userRoleEntity)).thenReturn(userRole);
 
         // When & Then
         StepVerifier.create(adapter.getAllRoles())
@@ -4,31 +4,53 @@ import co.com.crediya.cy_authentication.exception.DataPersistenceException;
 import co.com.crediya.cy_authentication.exception.DataRetrievalException;
 import co.com.crediya.cy_authentication.exception.UserNotFoundException;
 import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.model.user.record.UserCreation;
+import co.com.crediya.cy_authentication.model.user.record.UserCredentials;
+import co.com.crediya.cy_authentication.model.user.record.UserPageItem;
+import co.com.crediya.cy_authentication.model.user.record.UserPageQuery;
+import co.com.crediya.cy_authentication.model.user.record.UserSummary;
+import co.com.crediya.cy_authentication.model.user.record.UserUpdate;
 import co.com.crediya.cy_authentication.r2dbc.entity.UserEntity;
+import co.com.crediya.cy_authentication.r2dbc.mapper.UserEntityMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.DisplayName;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.FetchSpec;
+import org.springframework.r2dbc.core.RowsFetchSpec;
+import org.springframework.r2dbc.core.StatementFilterFunction;
 import org.springframework.transaction.reactive.TransactionalOperator;
 
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.math.BigInteger;
 import java.time.LocalDate;
-
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,7 +61,7 @@ class UsersReactiveRepositoryAdapterTest {
     private UserReactiveRepository repository;
     
     @Mock
-    private ObjectMapper mapper;
+    private UserEntityMapper mapper;
 
     @Mock
     private TransactionalOperator writeTransactional;
@@ -54,6 +76,7 @@ class UsersReactiveRepositoryAdapterTest {
     private UserReactiveRepositoryAdapter adapter;
 
     private User validUser;
+    private UserSummary validSummary;
     private UserEntity validUserEntity;
 
     @SuppressWarnings("unchecked")
@@ -82,6 +105,8 @@ class UsersReactiveRepositoryAdapterTest {
                 .password("password123")
                 .build();
 
+        validSummary = new UserSummary(12345678L, "John", "Doe", "john.doe@example.com", 3000000.0);
+
         validUserEntity = new UserEntity();
         validUserEntity.setId(BigInteger.valueOf(1));
         validUserEntity.setIdNumber(12345678L);
@@ -95,8 +120,8 @@ class UsersReactiveRepositoryAdapterTest {
         validUserEntity.setPassword("password123");
 
         // Defaults para mapper (evita nulls cuando algún test no stubbea)
-        when(mapper.map(any(), eq(UserEntity.class))).thenReturn(validUserEntity);
-        when(mapper.map(any(), eq(User.class))).thenReturn(validUser);
+        when(mapper.toData(any())).thenReturn(validUserEntity);
+        when(mapper.toEntity(any())).thenReturn(validUser);
 
         // Default: save devuelve el mismo objeto (evita NPE en doOnNext)
         when(repository.save(any(UserEntity.class)))
@@ -107,39 +132,11 @@ class UsersReactiveRepositoryAdapterTest {
         when(repository.deleteById(any(Mono.class))).thenReturn(Mono.empty());
     }
 
-    @Test
-    @DisplayName("Should save user successfully")
-    void shouldSaveUserSuccessfully() {
-        // Given
-        when(mapper.map(any(User.class), any())).thenReturn(validUserEntity);
-        when(mapper.map(any(UserEntity.class), any())).thenReturn(validUser);
-        when(repository.save(any(UserEntity.class))).thenReturn(Mono.just(validUserEntity));
-
-        // When & Then
-        StepVerifier.create(adapter.saveUser(Mono.just(validUser)))
-                .expectNext(validUser)
-                .verifyComplete();
-    }
-
-    @Test
-    @DisplayName("Should handle save user error")
-    void shouldHandleSaveUserError() {
-        // Given
-        when(mapper.map(any(User.class), any())).thenReturn(validUserEntity);
-        when(repository.save(any(UserEntity.class))).thenReturn(Mono.error(new RuntimeException("Database error")));
-
-        // When & Then
-        StepVerifier.create(adapter.saveUser(Mono.just(validUser)))
-                .expectError(DataPersistenceException.class)
-                .verify();
-    }
-
     @Test
     @DisplayName("Should get all users successfully")
     void shouldGetAllUsersSuccessfully() {
         // Given
-        when(repository.findAll()).thenReturn(Flux.just(validUserEntity));
-        when(mapper.map(any(UserEntity.class), any())).thenReturn(validUser);
+        stubStreamingQuery(Flux.just(validUser));
 
         // When & Then
         StepVerifier.create(adapter.getAllUsers())
@@ -151,7 +148,7 @@ class UsersReactiveRepositoryAdapterTest {
     @DisplayName("Should handle get all users error")
     void shouldHandleGetAllUsersError() {
         // Given
-        when(repository.findAll()).thenReturn(Flux.error(new RuntimeException("Database error")));
+        stubStreamingQuery(Flux.error(new RuntimeException("Database error")));
 
         // When & Then
         StepVerifier.create(adapter.getAllUsers())
@@ -163,74 +160,80 @@ class UsersReactiveRepositoryAdapterTest {
     @DisplayName("Should get user by id number successfully")
     void shouldGetUserByIdNumberSuccessfully() {
         // Given
-        when(repository.findByIdNumber(12345678L)).thenReturn(Mono.just(validUserEntity));
-        when(mapper.map(any(UserEntity.class), any())).thenReturn(validUser);
+        DatabaseClient.GenericExecuteSpec spec = stubUserQuery(Mono.just(validSummary));
 
         // When & Then
         StepVerifier.create(adapter.getByIdNumber(12345678L))
-                .expectNext(validUser)
+                .expectNext(validSummary)
                 .verifyComplete();
+
+        verify(databaseClient).sql("SELECT id_number, name, lastname, email, base_salary FROM users WHERE id_number = $1");
+        verify(spec).bind(0, 12345678L);
+        verify(mapper, never()).toEntity(any(UserEntity.class));
     }
 
     @Test
-    @DisplayName("Should throw UserNotFoundException when user not found by id number")
-    void shouldThrowUserNotFoundExceptionWhenUserNotFoundByIdNumber() {
+    @DisplayName("Should get user summary by id without selecting the password")
+    void shouldGetUserByIdSuccessfully() {
         // Given
-        when(repository.findByIdNumber(999L)).thenReturn(Mono.empty());
+        DatabaseClient.GenericExecuteSpec spec = stubUserQuery(Mono.just(validSummary));
 
         // When & Then
-        StepVerifier.create(adapter.getByIdNumber(999L))
-                .expectError(UserNotFoundException.class)
-                .verify();
+        StepVerifier.create(adapter.getById(BigInteger.ONE))
+                .expectNext(validSummary)
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertEquals("SELECT id_number, name, lastname, email, base_salary FROM users WHERE id = $1", sql.getValue());
+        verify(spec).bind(0, 1L);
+        verify(repository, never()).findById(any(BigInteger.class));
     }
 
     @Test
-    @DisplayName("Should edit user successfully")
-    void shouldEditUserSuccessfully() {
+    @DisplayName("Should throw UserNotFoundException when user not found by id")
+    void shouldThrowUserNotFoundExceptionWhenUserNotFoundById() {
         // Given
-        when(repository.findByIdNumber(12345678L)).thenReturn(Mono.just(validUserEntity));
-        when(repository.save(any(UserEntity.class))).thenReturn(Mono.just(validUserEntity));
-        when(mapper.map(any(UserEntity.class), any())).thenReturn(validUser);
+        stubUserQuery(Mono.empty());
 
         // When & Then
-        StepVerifier.create(adapter.editUser(Mono.just(validUser)))
-                .expectNext(validUser)
-                .verifyComplete();
+        StepVerifier.create(adapter.getById(BigInteger.TEN))
+                .expectError(UserNotFoundException.class)
+                .verify();
     }
 
     @Test
-    @DisplayName("Should delete user successfully")
-    void shouldDeleteUserSuccessfully() {
+    @DisplayName("Should throw UserNotFoundException when user not found by id number")
+    void shouldThrowUserNotFoundExceptionWhenUserNotFoundByIdNumber() {
         // Given
-        when(repository.findByIdNumber(12345678L)).thenReturn(Mono.just(validUserEntity));
-        when(repository.deleteById(BigInteger.valueOf(1))).thenReturn(Mono.empty());
+        stubUserQuery(Mono.empty());
 
         // When & Then
-        StepVerifier.create(adapter.deleteUser(12345678L))
-                .verifyComplete();
+        StepVerifier.create(adapter.getByIdNumber(999L))
+                .expectError(UserNotFoundException.class)
+                .verify();
     }
 
     @Test
-        @DisplayName("editUser no debe consultar findByIdNumber en adapter")
-        void editUserShouldNotCallFindByIdNumber() {
+    @DisplayName("Should delete user successfully")
+    void shouldDeleteUserSuccessfully() {
         // Given
-        when(repository.save(any(UserEntity.class))).thenAnswer(inv -> Mono.just(inv.getArgument(0)));
-        when(mapper.map(any(UserEntity.class), any())).thenReturn(validUser);
+        DatabaseClient.GenericExecuteSpec spec = stubDeleteQuery(Mono.just(1L));
 
         // When & Then
-        StepVerifier.create(adapter.editUser(Mono.just(validUser)))
-                .expectNext(validUser)
+        StepVerifier.create(adapter.deleteUser(12345678L))
                 .verifyComplete();
 
-        // Verifica que NUNCA se llamó findByIdNumber en el adapter
-        org.mockito.Mockito.verify(repository, org.mockito.Mockito.never()).findByIdNumber(anyLong());
-        }
+        verify(databaseClient).sql("DELETE FROM users WHERE id_number = $1");
+        verify(spec).bind(0, 12345678L);
+        verify(writeTransactional, never()).transactional(any(Mono.class));
+    }
 
     @Test
     @DisplayName("Should throw UserNotFoundException when deleting non-existent user")
     void shouldThrowUserNotFoundExceptionWhenDeletingNonExistentUser() {
         // Given
-        when(repository.findByIdNumber(999L)).thenReturn(Mono.empty());
+        stubDeleteQuery(Mono.just(0L));
 
         // When & Then
         StepVerifier.create(adapter.deleteUser(999L))
@@ -242,79 +245,39 @@ class UsersReactiveRepositoryAdapterTest {
     @DisplayName("Should get user by email successfully")
     void shouldGetUserByEmailSuccessfully() {
         // Given
-        when(repository.findByEmail("john.doe@example.com")).thenReturn(Mono.just(validUserEntity));
-        when(mapper.map(any(UserEntity.class), any())).thenReturn(validUser);
+        DatabaseClient.GenericExecuteSpec spec = stubUserQuery(Mono.just(validSummary));
 
         // When & Then
         StepVerifier.create(adapter.getByEmail("john.doe@example.com"))
-                .expectNext(validUser)
+                .expectNext(validSummary)
                 .verifyComplete();
-    }
-
-    @Test
-    @DisplayName("Should throw UserNotFoundException when user not found by email")
-    void shouldThrowUserNotFoundExceptionWhenUserNotFoundByEmail() {
-        // Given
-        when(repository.findByEmail("notfound@example.com")).thenReturn(Mono.empty());
-
-        // When & Then
-        StepVerifier.create(adapter.getByEmail("notfound@example.com"))
-                .expectError(UserNotFoundException.class)
-                .verify();
-    }
-
-    @Test
-    @DisplayName("Should find user by email or id number successfully")
-    void shouldFindUserByEmailOrIdNumberSuccessfully() {
-        // Given
-        when(repository.findByEmailOrIdNumber("john.doe@example.com", 12345678L))
-                .thenReturn(Mono.just(validUserEntity));
-        when(mapper.map(any(UserEntity.class), any())).thenReturn(validUser);
 
-        // When & Then
-        StepVerifier.create(adapter.findByEmailOrIdNumber("john.doe@example.com", 12345678L))
-                .expectNext(validUser)
-                .verifyComplete();
+        verify(spec).bind(0, "john.doe@example.com");
     }
 
+    @SuppressWarnings("unchecked")
     @Test
-    @DisplayName("Should return empty when no user found by email or id number")
-    void shouldReturnEmptyWhenNoUserFoundByEmailOrIdNumber() {
+    @DisplayName("Should read a single user in auto-commit without a read-only transaction")
+    void shouldReadSingleUserWithoutReadOnlyTransaction() {
         // Given
-        when(repository.findByEmailOrIdNumber("notfound@example.com", 999L))
-                .thenReturn(Mono.empty());
-
-        // When & Then
-        StepVerifier.create(adapter.findByEmailOrIdNumber("notfound@example.com", 999L))
-                .verifyComplete();
-    }
+        stubUserQuery(Mono.just(validSummary));
 
-    @Test
-    @DisplayName("Should return empty when both email and id number are null")
-    void shouldReturnEmptyWhenBothEmailAndIdNumberAreNull() {
         // When & Then
-        StepVerifier.create(adapter.findByEmailOrIdNumber(null, null))
-                .verifyComplete();
-    }
+        StepVerifier.create(adapter.getByEmail("john.doe@example.com")).expectNext(validSummary).verifyComplete();
+        StepVerifier.create(adapter.getByIdNumber(12345678L)).expectNext(validSummary).verifyComplete();
 
-    @Test
-    @DisplayName("Should return empty when email is empty and id number is null")
-    void shouldReturnEmptyWhenEmailIsEmptyAndIdNumberIsNull() {
-        // When & Then
-        StepVerifier.create(adapter.findByEmailOrIdNumber("", null))
-                .verifyComplete();
+        verify(readOnlyTransactional, never()).transactional(any(Mono.class));
     }
 
     @Test
-    @DisplayName("Should handle database error in findByEmailOrIdNumber")
-    void shouldHandleDatabaseErrorInFindByEmailOrIdNumber() {
+    @DisplayName("Should throw UserNotFoundException when user not found by email")
+    void shouldThrowUserNotFoundExceptionWhenUserNotFoundByEmail() {
         // Given
-        when(repository.findByEmailOrIdNumber(anyString(), anyLong()))
-                .thenReturn(Mono.error(new RuntimeException("Database error")));
+        stubUserQuery(Mono.empty());
 
         // When & Then
-        StepVerifier.create(adapter.findByEmailOrIdNumber("test@example.com", 123L))
-                .expectError(DataRetrievalException.class)
+        StepVerifier.create(adapter.getByEmail("notfound@example.com"))
+                .expectError(UserNotFoundException.class)
                 .verify();
     }
 
@@ -322,8 +285,7 @@ class UsersReactiveRepositoryAdapterTest {
     @DisplayName("Should handle repository error in getByIdNumber")
     void shouldHandleRepositoryErrorInGetByIdNumber() {
     // Given
-    when(repository.findByIdNumber(12345678L))
-            .thenReturn(Mono.error(new RuntimeException("Database connection error")));
+    stubUserQuery(Mono.error(new RuntimeException("Database connection error")));
 
     // When & Then
     StepVerifier.create(adapter.getByIdNumber(12345678L))
@@ -332,170 +294,373 @@ class UsersReactiveRepositoryAdapterTest {
     }
 
     @Test
-    @DisplayName("Should handle repository error in editUser")
-    void shouldHandleRepositoryErrorInEditUser() {
+    @DisplayName("Should handle repository error in deleteUser")
+    void shouldHandleRepositoryErrorInDeleteUser() {
     // Given
-    when(repository.findByIdNumber(12345678L)).thenReturn(Mono.just(validUserEntity));
-    when(repository.save(any(UserEntity.class)))
-            .thenReturn(Mono.error(new RuntimeException("Database save error")));
+    stubDeleteQuery(Mono.error(new RuntimeException("Database delete error")));
 
     // When & Then
-    StepVerifier.create(adapter.editUser(Mono.just(validUser)))
+    StepVerifier.create(adapter.deleteUser(12345678L))
             .expectError(DataPersistenceException.class)
             .verify();
     }
 
     @Test
-    @DisplayName("Should handle repository error in deleteUser")
-    void shouldHandleRepositoryErrorInDeleteUser() {
+    @DisplayName("Should handle row decoding error in getByIdNumber")
+    void shouldHandleRowDecodingErrorInGetByIdNumber() {
     // Given
-    when(repository.findByIdNumber(12345678L)).thenReturn(Mono.just(validUserEntity));
-    when(repository.deleteById(BigInteger.valueOf(1)))
-            .thenReturn(Mono.error(new RuntimeException("Database delete error")));
+    Row row = mock(Row.class);
+    when(row.get(anyInt(), any(Class.class))).thenThrow(new IllegalArgumentException("Decoding error"));
+    stubSingleRowQuery(row);
 
     // When & Then
-    StepVerifier.create(adapter.deleteUser(12345678L))
-            .expectError(DataPersistenceException.class)
+    StepVerifier.create(adapter.getByIdNumber(12345678L))
+            .expectError(DataRetrievalException.class)
             .verify();
     }
 
     @Test
-    @DisplayName("Should handle mapper error in editUser")
-    void shouldHandleMapperErrorInEditUser() {
-    // Given
-    when(repository.findByIdNumber(12345678L)).thenReturn(Mono.just(validUserEntity));
-    when(repository.save(any(UserEntity.class))).thenReturn(Mono.just(validUserEntity));
-    when(mapper.map(any(UserEntity.class), any()))
-            .thenThrow(new RuntimeException("Mapping error"));
+    @DisplayName("Should handle repository error in getByEmail")
+    void shouldHandleRepositoryErrorInGetByEmail() {
+        // Given
+        stubUserQuery(Mono.error(new RuntimeException("Database connection error")));
 
-    // When & Then
-    StepVerifier.create(adapter.editUser(Mono.just(validUser)))
-            .expectError(DataPersistenceException.class)
-            .verify();
+        // When & Then
+        StepVerifier.create(adapter.getByEmail("john.doe@example.com"))
+                .expectError(DataRetrievalException.class)
+                .verify();
     }
 
     @Test
-    @DisplayName("Should handle mapper error in getByIdNumber")
-    void shouldHandleMapperErrorInGetByIdNumber() {
-    // Given
-    when(repository.findByIdNumber(12345678L)).thenReturn(Mono.just(validUserEntity));
-    when(mapper.map(any(UserEntity.class), any()))
-            .thenThrow(new RuntimeException("Mapping error"));
+    @DisplayName("Should handle row decoding error in getByEmail")
+    void shouldHandleRowDecodingErrorInGetByEmail() {
+        // Given
+        Row row = mock(Row.class);
+        when(row.get(anyInt(), any(Class.class))).thenThrow(new IllegalArgumentException("Decoding error"));
+        stubSingleRowQuery(row);
 
-    // When & Then
-    StepVerifier.create(adapter.getByIdNumber(12345678L))
-            .expectError(DataRetrievalException.class)
-            .verify();
+        // When & Then
+        StepVerifier.create(adapter.getByEmail("john.doe@example.com"))
+                .expectError(DataRetrievalException.class)
+                .verify();
     }
 
     @Test
-    @DisplayName("Should handle findByIdNumber error in deleteUser")
-    void shouldHandleFindByIdNumberErrorInDeleteUser() {
-    // Given
-    when(repository.findByIdNumber(12345678L))
-            .thenReturn(Mono.error(new RuntimeException("Database find error")));
+    @DisplayName("Should handle general exception in getByEmail")
+    void shouldHandleGeneralExceptionInGetByEmail() {
+        // Given
+        stubUserQuery(Mono.error(new IllegalArgumentException("Invalid email format")));
 
-    // When & Then
-    StepVerifier.create(adapter.deleteUser(12345678L))
-            .expectError(DataPersistenceException.class)
-            .verify();
+        // When & Then
+        StepVerifier.create(adapter.getByEmail("john.doe@example.com"))
+                .expectError(DataRetrievalException.class)
+                .verify();
     }
 
+    @SuppressWarnings("unchecked")
     @Test
-    @DisplayName("Should return empty when email is null and idNumber is null")
-    void shouldReturnEmptyWhenEmailIsNullAndIdNumberIsNull() {
+    @DisplayName("Should seek users page by ID with optional filters")
+    void shouldSeekUsersPageWithFilters() {
+        // Given
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<UserPageItem> fetchSpec = mock(RowsFetchSpec.class);
+        UserPageItem item = new UserPageItem(BigInteger.valueOf(11), 12345678L, 1, "John", "Doe", "john.doe@example.com", 3000000.0, 2, 0L);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(fetchSpec);
+        when(fetchSpec.all()).thenReturn(Flux.just(item));
+
         // When & Then
-        StepVerifier.create(adapter.findByEmailOrIdNumber(null, null))
+        StepVerifier.create(adapter.findUsersPage(new UserPageQuery(BigInteger.TEN, 21, 2, null)))
+                .expectNext(item)
                 .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertEquals(
+                "SELECT id, id_number, id_type_id, name, lastname, email, base_salary, role_id, version"
+                        + " FROM users WHERE id > $1 AND role_id = $2 ORDER BY id LIMIT $3", sql.getValue());
+        verify(spec).bind(0, 10L);
+        verify(spec).bind(1, 2);
+        verify(spec).bind(2, 21);
     }
 
+    @SuppressWarnings("unchecked")
     @Test
-    @DisplayName("Should return empty when email is whitespace only and idNumber is null")
-    void shouldReturnEmptyWhenEmailIsWhitespaceAndIdNumberIsNull() {
+    @DisplayName("Should query users by emails with a single array-bound statement")
+    void shouldFindUsersByEmailsWithArrayParameter() {
+        // Given
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<UserSummary> fetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(fetchSpec);
+        when(fetchSpec.all()).thenReturn(Flux.just(validSummary));
+
         // When & Then
-        StepVerifier.create(adapter.findByEmailOrIdNumber("   ", null))
+        StepVerifier.create(adapter.findUsersByEmails(List.of("a@x.com", "b@x.com", "c@x.com")))
+                .expectNext(validSummary)
                 .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertEquals("SELECT id_number, name, lastname, email, base_salary FROM users WHERE email = ANY($1::varchar[])", sql.getValue());
+        verify(spec).bind(0, new String[] {"a@x.com", "b@x.com", "c@x.com"});
     }
 
     @Test
-    @DisplayName("Should call repository when email is valid and idNumber is null")
-    void shouldCallRepositoryWhenEmailIsValidAndIdNumberIsNull() {
+    @DisplayName("Should decode credentials reading the bigint id as Long")
+    void shouldFindCredentialsByEmail() {
         // Given
-        when(repository.findByEmailOrIdNumber("test@example.com", null))
-                .thenReturn(Mono.just(validUserEntity));
-        when(mapper.map(any(UserEntity.class), any())).thenReturn(validUser);
+        Row row = mock(Row.class);
+        when(row.get("id", Long.class)).thenReturn(7L);
+        when(row.get("password", String.class)).thenReturn("$2a$12$hash");
+        when(row.get("role_id", Integer.class)).thenReturn(3);
+        stubSingleRowQuery(row);
 
         // When & Then
-        StepVerifier.create(adapter.findByEmailOrIdNumber("test@example.com", null))
-                .expectNext(validUser)
+        StepVerifier.create(adapter.findCredentialsByEmail("john.doe@example.com"))
+                .expectNext(new UserCredentials(BigInteger.valueOf(7), "$2a$12$hash", 3))
                 .verifyComplete();
+
+        verify(row, never()).get("id", BigInteger.class);
     }
 
     @Test
-    @DisplayName("Should call repository when email is null and idNumber is valid")
-    void shouldCallRepositoryWhenEmailIsNullAndIdNumberIsValid() {
+    @DisplayName("Should complete empty when no credentials exist for the email")
+    void shouldReturnEmptyCredentialsForUnknownEmail() {
         // Given
-        when(repository.findByEmailOrIdNumber(null, 12345678L))
-                .thenReturn(Mono.just(validUserEntity));
-        when(mapper.map(any(UserEntity.class), any())).thenReturn(validUser);
+        DatabaseClient.GenericExecuteSpec spec = stubUserQuery(Mono.empty());
 
         // When & Then
-        StepVerifier.create(adapter.findByEmailOrIdNumber(null, 12345678L))
-                .expectNext(validUser)
+        StepVerifier.create(adapter.findCredentialsByEmail("missing@example.com"))
                 .verifyComplete();
+
+        verify(spec).bind(0, "missing@example.com");
     }
 
     @Test
-    @DisplayName("Should call repository when email is empty and idNumber is valid")
-    void shouldCallRepositoryWhenEmailIsEmptyAndIdNumberIsValid() {
+    @DisplayName("Should create user with a single insert statement")
+    void shouldCreateUserWithSingleInsertStatement() {
         // Given
-        when(repository.findByEmailOrIdNumber("", 12345678L))
-                .thenReturn(Mono.just(validUserEntity));
-        when(mapper.map(any(UserEntity.class), any())).thenReturn(validUser);
+        Row row = mock(Row.class);
+        when(row.get("id", Long.class)).thenReturn(42L);
+        stubSingleRowQuery(row);
 
         // When & Then
-        StepVerifier.create(adapter.findByEmailOrIdNumber("", 12345678L))
-                .expectNext(validUser)
+        StepVerifier.create(adapter.createUser(validUser.toBuilder().id(null).address(null).build()))
+                .assertNext(creation -> {
+                    assertTrue(creation.isCreated());
+                    assertEquals(BigInteger.valueOf(42), creation.user().getId());
+                    assertNull(creation.user().getPassword());
+                })
                 .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertTrue(sql.getValue().contains("ON CONFLICT DO NOTHING RETURNING id"));
+        verify(repository, never()).save(any(UserEntity.class));
     }
 
     @Test
-    @DisplayName("Should handle repository error in getByEmail")
-    void shouldHandleRepositoryErrorInGetByEmail() {
+    @DisplayName("Should report conflicting columns when unique constraints reject the insert")
+    void shouldReportConflictingColumnsWhenInsertIsRejected() {
         // Given
-        when(repository.findByEmail("john.doe@example.com"))
-                .thenReturn(Mono.error(new RuntimeException("Database connection error")));
+        Row row = mock(Row.class);
+        when(row.get("id", Long.class)).thenReturn(null);
+        when(row.get("email_taken", Boolean.class)).thenReturn(true);
+        when(row.get("id_number_taken", Boolean.class)).thenReturn(false);
+        stubSingleRowQuery(row);
 
         // When & Then
-        StepVerifier.create(adapter.getByEmail("john.doe@example.com"))
-                .expectError(DataRetrievalException.class)
-                .verify();
+        StepVerifier.create(adapter.createUser(validUser))
+                .expectNext(UserCreation.conflict(true, false))
+                .verifyComplete();
     }
 
     @Test
-    @DisplayName("Should handle mapper error in getByEmail")
-    void shouldHandleMapperErrorInGetByEmail() {
+    @DisplayName("Should update user with a single versioned statement")
+    void shouldUpdateUserWithSingleVersionedStatement() {
         // Given
-        when(repository.findByEmail("john.doe@example.com")).thenReturn(Mono.just(validUserEntity));
-        when(mapper.map(any(UserEntity.class), any()))
-                .thenThrow(new RuntimeException("Mapping error"));
+        Row row = mock(Row.class);
+        when(row.get("id")).thenReturn(1L);
+        when(row.get(1, Long.class)).thenReturn(12345678L);
+        when(row.get(11, Long.class)).thenReturn(4L);
+        stubSingleRowQuery(row);
 
         // When & Then
-        StepVerifier.create(adapter.getByEmail("john.doe@example.com"))
-                .expectError(DataRetrievalException.class)
-                .verify();
+        StepVerifier.create(adapter.updateUser(validUser.toBuilder().password(null).version(3L).build()))
+                .assertNext(update -> {
+                    assertTrue(update.isUpdated());
+                    assertEquals(12345678L, update.user().getIdNumber());
+                    assertEquals(4L, update.user().getVersion());
+                    assertNull(update.user().getPassword());
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertTrue(sql.getValue().contains("password = COALESCE($11, password), version = version + 1"));
+        assertTrue(sql.getValue().contains("RETURNING id, id_number, id_type_id, name, lastname, birth_date, address, phone, email, base_salary, role_id, version)"));
+        verify(repository, never()).save(any(UserEntity.class));
+        verify(writeTransactional, never()).transactional(any(Mono.class));
     }
 
     @Test
-    @DisplayName("Should handle general exception in getByEmail")
-    void shouldHandleGeneralExceptionInGetByEmail() {
+    @DisplayName("Should report version conflict when no row matches the expected version")
+    void shouldReportVersionConflictWhenVersionDoesNotMatch() {
         // Given
-        when(repository.findByEmail("john.doe@example.com"))
-                .thenReturn(Mono.error(new IllegalArgumentException("Invalid email format")));
+        Row row = mock(Row.class);
+        when(row.get("id")).thenReturn(null);
+        when(row.get("id_number_found", Boolean.class)).thenReturn(true);
+        when(row.get("email_found", Boolean.class)).thenReturn(true);
+        when(row.get("current_version", Long.class)).thenReturn(5L);
+        stubSingleRowQuery(row);
 
         // When & Then
-        StepVerifier.create(adapter.getByEmail("john.doe@example.com"))
-                .expectError(DataRetrievalException.class)
-                .verify();
+        StepVerifier.create(adapter.updateUser(validUser.toBuilder().version(3L).build()))
+                .assertNext(update -> {
+                    assertTrue(update.isVersionConflict());
+                    assertEquals(UserUpdate.rejected(true, true, 5L), update);
+                })
+                .verifyComplete();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should create a batch of users with one array-bound insert preserving input order")
+    void shouldCreateUsersBatchWithArrayParameters() {
+        // Given
+        User second = validUser.toBuilder().idNumber(87654321L).email("second@example.com").build();
+        Row createdRow = mock(Row.class);
+        when(createdRow.get("ord", Long.class)).thenReturn(1L);
+        when(createdRow.get("id", Long.class)).thenReturn(10L);
+        when(createdRow.get("version", Long.class)).thenReturn(0L);
+        Row conflictRow = mock(Row.class);
+        when(conflictRow.get("ord", Long.class)).thenReturn(2L);
+        when(conflictRow.get("id_number_taken", Boolean.class)).thenReturn(true);
+
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<UserCreation> fetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        AtomicReference<BiFunction<Row, RowMetadata, UserCreation>> rowMapper = new AtomicReference<>();
+        when(spec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            rowMapper.set(invocation.getArgument(0));
+            return fetchSpec;
+        });
+        RowMetadata metadata = mock(RowMetadata.class);
+        when(fetchSpec.all()).thenAnswer(invocation -> Flux.just(createdRow, conflictRow)
+                .map(row -> rowMapper.get().apply(row, metadata)));
+
+        // When & Then
+        StepVerifier.create(adapter.createUsers(List.of(validUser, second)))
+                .assertNext(creation -> {
+                    assertTrue(creation.isCreated());
+                    assertEquals(BigInteger.TEN, creation.user().getId());
+                    assertEquals(12345678L, creation.user().getIdNumber());
+                })
+                .expectNext(UserCreation.conflict(false, true))
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertTrue(sql.getValue().contains("unnest($1::bigint[]"));
+        assertTrue(sql.getValue().contains("ON CONFLICT DO NOTHING"));
+        verify(spec).bind(0, new Long[] {12345678L, 87654321L});
+        verify(spec).bind(7, new String[] {"john.doe@example.com", "second@example.com"});
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should query user summaries by id numbers with a single array-bound statement")
+    void shouldFindUsersByIdNumbersWithArrayParameter() {
+        // Given
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<UserSummary> fetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(fetchSpec);
+        when(fetchSpec.all()).thenReturn(Flux.just(validSummary));
+
+        // When & Then
+        StepVerifier.create(adapter.findUsersByIdNumbers(List.of(12345678L, 87654321L)))
+                .expectNext(validSummary)
+                .verifyComplete();
+
+        verify(databaseClient).sql("SELECT id_number, name, lastname, email, base_salary FROM users WHERE id_number = ANY($1::bigint[])");
+        verify(spec).bind(0, new Long[] {12345678L, 87654321L});
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("Should delete users in bulk with a single array-bound statement")
+    void shouldDeleteUsersWithArrayParameter() {
+        // Given
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<Long> fetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(fetchSpec);
+        when(fetchSpec.all()).thenReturn(Flux.just(1L, 3L));
+
+        // When & Then
+        StepVerifier.create(adapter.deleteUsers(List.of(1L, 2L, 3L)))
+                .expectNext(1L, 3L)
+                .verifyComplete();
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(databaseClient).sql(sql.capture());
+        assertTrue(sql.getValue().contains("WHERE id_number = ANY($1::bigint[]) RETURNING id_number"));
+        verify(spec).bind(0, new Long[] {1L, 2L, 3L});
+    }
+
+    @SuppressWarnings("unchecked")
+    private DatabaseClient.GenericExecuteSpec stubDeleteQuery(Mono<Long> rowsUpdated) {
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        FetchSpec<Map<String, Object>> fetchSpec = mock(FetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.fetch()).thenReturn(fetchSpec);
+        when(fetchSpec.rowsUpdated()).thenReturn(rowsUpdated);
+        return spec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> DatabaseClient.GenericExecuteSpec stubUserQuery(Mono<T> result) {
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<T> fetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.bindNull(anyInt(), any(Class.class))).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(fetchSpec);
+        when(fetchSpec.one()).thenReturn(result);
+        return spec;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void stubSingleRowQuery(Row row) {
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<T> fetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.bind(anyInt(), any())).thenReturn(spec);
+        when(spec.bindNull(anyInt(), any(Class.class))).thenReturn(spec);
+        RowMetadata metadata = mock(RowMetadata.class);
+        AtomicReference<BiFunction<Row, RowMetadata, T>> rowMapper = new AtomicReference<>();
+        when(spec.map(any(BiFunction.class))).thenAnswer(invocation -> {
+            rowMapper.set(invocation.getArgument(0));
+            return fetchSpec;
+        });
+        when(fetchSpec.one()).thenAnswer(invocation -> Mono.fromCallable(() -> rowMapper.get().apply(row, metadata)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubStreamingQuery(Flux<User> rows) {
+        DatabaseClient.GenericExecuteSpec spec = mock(DatabaseClient.GenericExecuteSpec.class);
+        RowsFetchSpec<User> fetchSpec = mock(RowsFetchSpec.class);
+        when(databaseClient.sql(anyString())).thenReturn(spec);
+        when(spec.filter(any(StatementFilterFunction.class))).thenReturn(spec);
+        when(spec.map(any(BiFunction.class))).thenReturn(fetchSpec);
+        when(fetchSpec.all()).thenReturn(rows);
     }
-}
\ No newline at end of file
+}
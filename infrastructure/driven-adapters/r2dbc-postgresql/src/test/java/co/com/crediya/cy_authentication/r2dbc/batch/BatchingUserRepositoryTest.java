@@ -0,0 +1,175 @@
+package co.com.crediya.cy_authentication.r2dbc.batch;
+
+import co.com.crediya.cy_authentication.exception.DataRetrievalException;
+import co.com.crediya.cy_authentication.exception.UserNotFoundException;
+import co.com.crediya.cy_authentication.model.user.gateways.UserRepository;
+import co.com.crediya.cy_authentication.model.user.record.UserSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BatchingUserRepositoryTest {
+
+    @Mock
+    private UserRepository delegate;
+
+    private BatchingUserRepository repository;
+
+    private final UserSummary john = new UserSummary(1L, "John", "Doe", "john@example.com", 1000000.0);
+    private final UserSummary jane = new UserSummary(2L, "Jane", "Doe", "jane@example.com", 2000000.0);
+
+    @AfterEach
+    void tearDown() {
+        if (repository != null) {
+            repository.destroy();
+        }
+    }
+
+    private BatchingUserRepository batching(boolean enabled, int maxKeys) {
+        return new BatchingUserRepository(delegate, enabled, Duration.ofMillis(50), maxKeys, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should resolve concurrent id number lookups with a single array query")
+    void shouldBatchConcurrentIdNumberLookups() {
+        // Given
+        when(delegate.findUsersByIdNumbers(any())).thenReturn(Flux.just(john, jane));
+        repository = batching(true, 100);
+
+        // When & Then
+        StepVerifier.create(Mono.zip(
+                    repository.getByIdNumber(1L),
+                    repository.getByIdNumber(2L),
+                    repository.getByIdNumber(1L)))
+                .assertNext(results -> {
+                    assertEquals(john, results.getT1());
+                    assertEquals(jane, results.getT2());
+                    assertEquals(john, results.getT3());
+                })
+                .verifyComplete();
+
+        verify(delegate, times(1)).findUsersByIdNumbers(List.of(1L, 2L));
+        verify(delegate, never()).getByIdNumber(any());
+    }
+
+    @Test
+    @DisplayName("Should resolve lookups issued concurrently from parallel threads")
+    void shouldAcceptLookupsFromParallelThreads() {
+        // Given
+        List<UserSummary> users = LongStream.rangeClosed(1, 200)
+                .mapToObj(id -> new UserSummary(id, "User", "Doe", "user" + id + "@example.com", 1000000.0))
+                .toList();
+        when(delegate.findUsersByIdNumbers(any())).thenAnswer(invocation -> {
+            List<Long> keys = invocation.getArgument(0);
+            return Flux.fromIterable(users).filter(user -> keys.contains(user.idNumber()));
+        });
+        repository = batching(true, 50);
+
+        // When & Then
+        StepVerifier.create(Flux.range(1, 200)
+                    .parallel(8)
+                    .runOn(Schedulers.parallel())
+                    .flatMap(id -> repository.getByIdNumber(id.longValue()))
+                    .sequential()
+                    .map(UserSummary::idNumber)
+                    .collectList())
+                .assertNext(found -> assertEquals(200, found.stream().distinct().count()))
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("Should fail only the lookups whose key is not in the batch result")
+    void shouldReportNotFoundPerKey() {
+        // Given
+        when(delegate.findUsersByEmails(any())).thenReturn(Flux.just(john));
+        repository = batching(true, 100);
+
+        // When & Then
+        StepVerifier.create(Mono.zip(
+                    repository.getByEmail("john@example.com"),
+                    repository.getByEmail("missing@example.com").onErrorResume(UserNotFoundException.class, ex -> Mono.just(jane))))
+                .assertNext(results -> {
+                    assertEquals(john, results.getT1());
+                    assertEquals(jane, results.getT2());
+                })
+                .verifyComplete();
+
+        verify(delegate, times(1)).findUsersByEmails(List.of("john@example.com", "missing@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should dispatch a batch as soon as it reaches the key limit")
+    void shouldSplitBatchesAtMaxKeys() {
+        // Given
+        when(delegate.findUsersByIdNumbers(List.of(1L, 2L))).thenReturn(Flux.just(john, jane));
+        when(delegate.findUsersByIdNumbers(List.of(3L))).thenReturn(Flux.empty());
+        repository = batching(true, 2);
+
+        // When & Then
+        StepVerifier.create(Flux.merge(
+                    repository.getByIdNumber(1L),
+                    repository.getByIdNumber(2L),
+                    repository.getByIdNumber(3L).onErrorResume(UserNotFoundException.class, ex -> Mono.empty())))
+                .expectNextCount(2)
+                .verifyComplete();
+
+        verify(delegate).findUsersByIdNumbers(List.of(1L, 2L));
+        verify(delegate).findUsersByIdNumbers(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("Should propagate a batch query error to every waiting lookup")
+    void shouldPropagateBatchErrorToAllWaiters() {
+        // Given
+        when(delegate.findUsersByIdNumbers(any()))
+                .thenReturn(Flux.error(new DataRetrievalException("Error al momento de consultar los usuarios por número de identificación", new RuntimeException())));
+        repository = batching(true, 100);
+
+        // When & Then
+        StepVerifier.create(Flux.merge(
+                    repository.getByIdNumber(1L).onErrorResume(DataRetrievalException.class, ex -> Mono.just(jane)),
+                    repository.getByIdNumber(2L).onErrorResume(DataRetrievalException.class, ex -> Mono.just(jane))))
+                .expectNext(jane, jane)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should query the delegate directly when batching is disabled")
+    void shouldDelegateDirectlyWhenDisabled() {
+        // Given
+        when(delegate.getByIdNumber(1L)).thenReturn(Mono.just(john));
+        repository = batching(false, 100);
+
+        // When & Then
+        StepVerifier.create(repository.getByIdNumber(1L))
+                .expectNext(john)
+                .verifyComplete();
+
+        verify(delegate, never()).findUsersByIdNumbers(any());
+    }
+}
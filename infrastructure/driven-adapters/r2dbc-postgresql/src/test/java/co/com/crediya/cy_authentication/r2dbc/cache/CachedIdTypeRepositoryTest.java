@@ -0,0 +1,71 @@
+package co.com.crediya.cy_authentication.r2dbc.cache;
+
+import co.com.crediya.cy_authentication.model.idtype.IdType;
+import co.com.crediya.cy_authentication.r2dbc.IdTypeReactiveRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedIdTypeRepositoryTest {
+
+    @Mock
+    private IdTypeReactiveRepositoryAdapter delegate;
+
+    private CachedIdTypeRepository cachedRepository;
+
+    private final IdType cedula = IdType.builder().id(1).name("Cédula de Ciudadanía").build();
+    private final IdType pasaporte = IdType.builder().id(3).name("Pasaporte").build();
+
+    @BeforeEach
+    void setUp() {
+        cachedRepository = new CachedIdTypeRepository(delegate, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should serve id types from the snapshot without querying the database")
+    void shouldServeFromSnapshotAfterRefresh() {
+        when(delegate.getAllIdTypes()).thenReturn(Flux.just(cedula, pasaporte));
+
+        StepVerifier.create(cachedRepository.refresh()).verifyComplete();
+
+        StepVerifier.create(cachedRepository.getIdTypeById(3))
+                .expectNext(pasaporte)
+                .verifyComplete();
+
+        verify(delegate, never()).getIdTypeById(anyInt());
+    }
+
+    @Test
+    @DisplayName("Should load the snapshot when started and stop refreshing when stopped")
+    void shouldLoadOnStart() {
+        when(delegate.getAllIdTypes()).thenReturn(Flux.just(cedula));
+
+        cachedRepository.start();
+
+        StepVerifier.create(Flux.interval(Duration.ofMillis(10))
+                        .map(tick -> cachedRepository.size())
+                        .filter(size -> size > 0)
+                        .next()
+                        .timeout(Duration.ofSeconds(1)))
+                .expectNext(1)
+                .verifyComplete();
+
+        cachedRepository.stop();
+        assertFalse(cachedRepository.isRunning());
+    }
+}
@@ -0,0 +1,101 @@
+package co.com.crediya.cy_authentication.r2dbc.cache;
+
+import co.com.crediya.cy_authentication.exception.DataRetrievalException;
+import co.com.crediya.cy_authentication.model.role.Role;
+import co.com.crediya.cy_authentication.r2dbc.RoleReactiveRepositoryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachedRoleRepositoryTest {
+
+    @Mock
+    private RoleReactiveRepositoryAdapter delegate;
+
+    private CachedRoleRepository cachedRepository;
+
+    private final Role admin = Role.builder().id(1).name("ADMIN").build();
+    private final Role client = Role.builder().id(3).name("CLIENTE").build();
+
+    @BeforeEach
+    void setUp() {
+        cachedRepository = new CachedRoleRepository(delegate, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("Should query the database while the snapshot is not loaded")
+    void shouldDelegateBeforeFirstLoad() {
+        when(delegate.getRoleById(1)).thenReturn(Mono.just(admin));
+
+        StepVerifier.create(cachedRepository.getRoleById(1))
+                .expectNext(admin)
+                .verifyComplete();
+
+        verify(delegate).getRoleById(1);
+    }
+
+    @Test
+    @DisplayName("Should serve roles from the snapshot without querying the database")
+    void shouldServeFromSnapshotAfterRefresh() {
+        when(delegate.getAllRoles()).thenReturn(Flux.just(admin, client));
+
+        StepVerifier.create(cachedRepository.refresh()).verifyComplete();
+
+        StepVerifier.create(cachedRepository.getRoleById(3))
+                .expectNext(client)
+                .verifyComplete();
+        StepVerifier.create(cachedRepository.getAllRoles())
+                .expectNext(admin, client)
+                .verifyComplete();
+
+        verify(delegate, never()).getRoleById(anyInt());
+        verify(delegate, times(1)).getAllRoles();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the database for IDs missing from the snapshot")
+    void shouldDelegateOnMiss() {
+        when(delegate.getAllRoles()).thenReturn(Flux.just(admin));
+        when(delegate.getRoleById(2)).thenReturn(Mono.empty());
+
+        StepVerifier.create(cachedRepository.refresh()).verifyComplete();
+
+        StepVerifier.create(cachedRepository.getRoleById(2))
+                .verifyComplete();
+
+        verify(delegate).getRoleById(2);
+    }
+
+    @Test
+    @DisplayName("Should keep the previous snapshot when a refresh fails")
+    void shouldKeepSnapshotWhenRefreshFails() {
+        when(delegate.getAllRoles())
+                .thenReturn(Flux.just(admin))
+                .thenReturn(Flux.error(new DataRetrievalException("Error al momento de consultar los roles")));
+
+        StepVerifier.create(cachedRepository.refresh()).verifyComplete();
+        StepVerifier.create(cachedRepository.refresh())
+                .expectError(DataRetrievalException.class)
+                .verify();
+
+        StepVerifier.create(cachedRepository.getRoleById(1))
+                .expectNext(admin)
+                .verifyComplete();
+    }
+}
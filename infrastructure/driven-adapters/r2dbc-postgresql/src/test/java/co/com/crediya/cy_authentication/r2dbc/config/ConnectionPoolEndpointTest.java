@@ -0,0 +1,71 @@
+package co.com.crediya.cy_authentication.r2dbc.config;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ConnectionPoolEndpointTest {
+
+    private ResizableConnectionPool pool;
+    private ConnectionPoolEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        pool = mock(ResizableConnectionPool.class);
+        when(pool.getName()).thenReturn("test-pool");
+        when(pool.getProperties())
+            .thenReturn(new PostgresqlPoolProperties(2, 5, null, null, null, null, null, null, null, null, null, Duration.ofSeconds(1)));
+        when(pool.getMetrics()).thenReturn(Optional.empty());
+        endpoint = new ConnectionPoolEndpoint(pool);
+    }
+
+    @Test
+    @DisplayName("Should reject a max size lower than one without touching the pool")
+    void shouldRejectMaxSizeLowerThanOne() {
+        // When & Then
+        StepVerifier.create(endpoint.resize(0, null))
+            .expectError(InvalidEndpointRequestException.class)
+            .verify();
+
+        verify(pool, never()).resize(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject an initial size greater than the max size without touching the pool")
+    void shouldRejectInitialSizeGreaterThanMaxSize() {
+        // When & Then
+        StepVerifier.create(endpoint.resize(3, 4))
+            .expectError(InvalidEndpointRequestException.class)
+            .verify();
+
+        verify(pool, never()).resize(anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should keep the initial size within the new max size when it is not given")
+    void shouldClampInitialSizeWhenNotGiven() {
+        // Given
+        PostgresqlPoolProperties resized = new PostgresqlPoolProperties(1, 1, null, null, null, null, null, null, null, null, null, null);
+        when(pool.resize(1, 1)).thenReturn(Mono.just(resized));
+
+        // When & Then
+        StepVerifier.create(endpoint.resize(1, null))
+            .expectNextCount(1)
+            .verifyComplete();
+
+        verify(pool).resize(1, 1);
+    }
+}
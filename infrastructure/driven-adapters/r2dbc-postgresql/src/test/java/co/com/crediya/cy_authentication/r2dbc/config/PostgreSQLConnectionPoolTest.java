@@ -1,10 +1,12 @@
 package co.com.crediya.cy_authentication.r2dbc.config;
 
-import io.r2dbc.pool.ConnectionPool;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import java.time.Duration;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,7 +35,7 @@ class PostgreSQLConnectionPoolTest {
         );
 
         // When
-        ConnectionPool connectionPool = postgreSQLConnectionPool.getConnectionConfig(properties);
+        ResizableConnectionPool connectionPool = postgreSQLConnectionPool.getConnectionConfig(properties, PostgresqlPoolProperties.defaults());
 
         // Then
         assertNotNull(connectionPool, "Connection pool should not be null");
@@ -53,7 +55,7 @@ class PostgreSQLConnectionPoolTest {
         );
 
         // When
-        ConnectionPool connectionPool = postgreSQLConnectionPool.getConnectionConfig(properties);
+        ResizableConnectionPool connectionPool = postgreSQLConnectionPool.getConnectionConfig(properties, PostgresqlPoolProperties.defaults());
 
         // Then
         assertNotNull(connectionPool, "Connection pool should not be null");
@@ -73,7 +75,7 @@ class PostgreSQLConnectionPoolTest {
         );
 
         // When
-        ConnectionPool connectionPool = postgreSQLConnectionPool.getConnectionConfig(properties);
+        ResizableConnectionPool connectionPool = postgreSQLConnectionPool.getConnectionConfig(properties, PostgresqlPoolProperties.defaults());
 
         // Then
         assertNotNull(connectionPool, "Connection pool should not be null");
@@ -94,7 +96,7 @@ class PostgreSQLConnectionPoolTest {
 
         // When & Then
         assertThrows(Exception.class, () -> {
-            postgreSQLConnectionPool.getConnectionConfig(properties);
+            postgreSQLConnectionPool.getConnectionConfig(properties, PostgresqlPoolProperties.defaults());
         }, "Should throw exception when host is null");
     }
 
@@ -113,7 +115,7 @@ class PostgreSQLConnectionPoolTest {
 
         // When & Then - No debería lanzar excepción al crear el pool
         assertDoesNotThrow(() -> {
-            ConnectionPool connectionPool = postgreSQLConnectionPool.getConnectionConfig(properties);
+            ResizableConnectionPool connectionPool = postgreSQLConnectionPool.getConnectionConfig(properties, PostgresqlPoolProperties.defaults());
             assertNotNull(connectionPool);
             // La excepción se lanzaría al intentar usar la conexión, no al crearla
         });
@@ -143,8 +145,8 @@ class PostgreSQLConnectionPoolTest {
         );
 
         // When
-        ConnectionPool pool1 = postgreSQLConnectionPool.getConnectionConfig(properties);
-        ConnectionPool pool2 = postgreSQLConnectionPool.getConnectionConfig(properties);
+        ResizableConnectionPool pool1 = postgreSQLConnectionPool.getConnectionConfig(properties, PostgresqlPoolProperties.defaults());
+        ResizableConnectionPool pool2 = postgreSQLConnectionPool.getConnectionConfig(properties, PostgresqlPoolProperties.defaults());
 
         // Then
         assertNotNull(pool1);
@@ -173,4 +175,18 @@ class PostgreSQLConnectionPoolTest {
         assertEquals("testuser", properties.username());
         assertEquals("testpassword", properties.password());
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @EnumSource(PoolValidation.class)
+    @DisplayName("Should build pool configuration for every validation strategy")
+    void shouldBuildPoolConfigurationForEveryValidationStrategy(PoolValidation validation) {
+        // Given
+        PostgresqlPoolProperties poolProperties = new PostgresqlPoolProperties(
+            1, 4, null, null, null, null, null, null, validation, null, Duration.ofMinutes(1), null);
+        PostgresqlConnectionProperties properties = new PostgresqlConnectionProperties(
+            "localhost", 5432, "testdb", "public", "testuser", "testpassword");
+
+        // When & Then
+        assertDoesNotThrow(() -> postgreSQLConnectionPool.getConnectionConfig(properties, poolProperties).dispose());
+    }
+}
@@ -0,0 +1,171 @@
+package co.com.crediya.cy_authentication.r2dbc.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+class ResizableConnectionPoolTest {
+
+    private ConnectionPool initialPool;
+    private ConnectionPool resizedPool;
+    private ResizableConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        initialPool = mock(ConnectionPool.class);
+        resizedPool = mock(ConnectionPool.class);
+        Deque<ConnectionPool> pools = new ArrayDeque<>();
+        pools.add(initialPool);
+        pools.add(resizedPool);
+
+        PostgresqlPoolProperties properties = new PostgresqlPoolProperties(2, 5, null, null, null, null, null, null, null, null, null, Duration.ofSeconds(1));
+        pool = new ResizableConnectionPool("test-pool", properties, p -> pools.removeFirst());
+    }
+
+    @Test
+    @DisplayName("Should apply defaults when pool properties are not configured")
+    void shouldApplyDefaultsWhenPoolPropertiesAreNotConfigured() {
+        // When
+        PostgresqlPoolProperties defaults = PostgresqlPoolProperties.defaults();
+
+        // Then
+        assertEquals(PostgreSQLConnectionPool.INITIAL_SIZE, defaults.initialSize());
+        assertEquals(PostgreSQLConnectionPool.MAX_SIZE, defaults.maxSize());
+        assertEquals(Duration.ofMinutes(PostgreSQLConnectionPool.MAX_IDLE_TIME), defaults.maxIdleTime());
+        assertEquals(1, defaults.acquireRetry());
+        assertEquals(PoolValidation.LOCAL, defaults.validation());
+        assertEquals("SELECT 1", defaults.validationQuery());
+    }
+
+    @Test
+    @DisplayName("Should reject initial size greater than max size")
+    void shouldRejectInitialSizeGreaterThanMaxSize() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new PostgresqlPoolProperties(10, 5, null, null, null, null, null, null, null, null, null, null));
+    }
+
+    @Test
+    @DisplayName("Should report acquire latency to the listener")
+    void shouldReportAcquireLatencyToTheListener() {
+        // Given
+        Connection connection = mock(Connection.class);
+        when(initialPool.create()).thenReturn(Mono.just(connection));
+        AtomicLong recorded = new AtomicLong(-1);
+        pool.onAcquire(recorded::set);
+
+        // When & Then
+        StepVerifier.create(pool.create())
+            .expectNext(connection)
+            .verifyComplete();
+        assertTrue(recorded.get() >= 0);
+    }
+
+    @Test
+    @DisplayName("Should swap to a new pool and dispose the drained one on resize")
+    void shouldSwapToNewPoolAndDisposeDrainedOneOnResize() {
+        // Given
+        PoolMetrics idle = mock(PoolMetrics.class);
+        when(initialPool.getMetrics()).thenReturn(Optional.of(idle));
+        when(initialPool.disposeLater()).thenReturn(Mono.empty());
+        when(resizedPool.warmup()).thenReturn(Mono.just(3));
+
+        // When & Then
+        StepVerifier.create(pool.resize(3, 20))
+            .assertNext(resized -> {
+                assertEquals(3, resized.initialSize());
+                assertEquals(20, resized.maxSize());
+            })
+            .verifyComplete();
+
+        verify(initialPool, timeout(2000)).disposeLater();
+        verify(resizedPool, never()).disposeLater();
+        assertEquals(20, pool.getProperties().maxSize());
+        when(resizedPool.getMetrics()).thenReturn(Optional.of(idle));
+        assertSame(idle, pool.getMetrics().orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should finish draining and disposing the previous pool when the caller cancels")
+    void shouldDisposePreviousPoolWhenCallerCancels() {
+        // Given
+        when(initialPool.getMetrics()).thenReturn(Optional.of(mock(PoolMetrics.class)));
+        when(initialPool.disposeLater()).thenReturn(Mono.empty());
+        when(resizedPool.warmup()).thenReturn(Mono.delay(Duration.ofMillis(100)).thenReturn(3));
+
+        // When
+        StepVerifier.create(pool.resize(3, 20))
+            .thenCancel()
+            .verify();
+
+        // Then
+        verify(initialPool, timeout(2000)).disposeLater();
+        assertEquals(20, pool.getProperties().maxSize());
+    }
+
+    @Test
+    @DisplayName("Should keep the current pool and discard the new one when warmup fails")
+    void shouldKeepCurrentPoolWhenWarmupFails() {
+        // Given
+        when(resizedPool.warmup()).thenReturn(Mono.error(new IllegalStateException("conexión rechazada")));
+        when(resizedPool.disposeLater()).thenReturn(Mono.empty());
+
+        // When & Then
+        StepVerifier.create(pool.resize(3, 20))
+            .expectErrorMessage("conexión rechazada")
+            .verify();
+
+        verify(resizedPool).disposeLater();
+        verify(initialPool, never()).disposeLater();
+        assertEquals(5, pool.getProperties().maxSize());
+    }
+
+    @Test
+    @DisplayName("Should reject a resize while another one is still in progress")
+    void shouldRejectConcurrentResize() {
+        // Given
+        when(initialPool.getMetrics()).thenReturn(Optional.of(mock(PoolMetrics.class)));
+        when(initialPool.disposeLater()).thenReturn(Mono.empty());
+        when(resizedPool.warmup()).thenReturn(Mono.delay(Duration.ofMillis(200)).thenReturn(3));
+        pool.resize(3, 20).subscribe();
+
+        // When & Then
+        StepVerifier.create(pool.resize(2, 10))
+            .expectError(IllegalStateException.class)
+            .verify();
+
+        verify(initialPool, timeout(2000)).disposeLater();
+        assertEquals(20, pool.getProperties().maxSize());
+    }
+
+    @Test
+    @DisplayName("Should keep the current pool when resize arguments are invalid")
+    void shouldKeepCurrentPoolWhenResizeArgumentsAreInvalid() {
+        // When & Then
+        StepVerifier.create(pool.resize(10, 5))
+            .expectError(IllegalArgumentException.class)
+            .verify();
+        assertEquals(5, pool.getProperties().maxSize());
+    }
+}
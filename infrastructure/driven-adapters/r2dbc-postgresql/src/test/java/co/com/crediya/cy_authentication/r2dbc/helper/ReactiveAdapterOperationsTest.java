@@ -8,7 +8,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
-import org.reactivecommons.utils.ObjectMapper;
 import org.springframework.data.domain.Example;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.data.repository.query.ReactiveQueryByExampleExecutor;
@@ -20,6 +19,7 @@ import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 
@@ -31,14 +31,15 @@ class ReactiveAdapterOperationsTest {
     private DummyRepository repository;
     
     @Mock
-    private ObjectMapper mapper;
+    private EntityMapper<DummyEntity, DummyData> mapper;
     
     private ReactiveAdapterOperations<DummyEntity, DummyData, String, DummyRepository> operations;
 
     @BeforeEach
     void setUp() {
         operations = new ReactiveAdapterOperations<DummyEntity, DummyData, String, DummyRepository>(
-                repository, mapper, DummyEntity::toEntity) {};
+                repository, mapper) {};
+        when(mapper.toEntity(any())).thenAnswer(invocation -> DummyEntity.toEntity(invocation.getArgument(0)));
     }
 
     @Test
@@ -48,7 +49,7 @@ class ReactiveAdapterOperationsTest {
         DummyEntity entity = new DummyEntity("1", "test");
         DummyData data = new DummyData("1", "test");
 
-        when(mapper.map(entity, DummyData.class)).thenReturn(data);
+        when(mapper.toData(entity)).thenReturn(data);
         when(repository.save(data)).thenReturn(Mono.just(data));
 
         // When & Then
@@ -56,7 +57,7 @@ class ReactiveAdapterOperationsTest {
                 .expectNext(entity)
                 .verifyComplete();
 
-        verify(mapper).map(entity, DummyData.class);
+        verify(mapper).toData(entity);
         verify(repository).save(data);
     }
 
@@ -67,7 +68,7 @@ class ReactiveAdapterOperationsTest {
         DummyEntity entity = new DummyEntity("1", "test");
         DummyData data = new DummyData("1", "test");
 
-        when(mapper.map(entity, DummyData.class)).thenReturn(data);
+        when(mapper.toData(entity)).thenReturn(data);
         when(repository.save(data)).thenReturn(Mono.error(new RuntimeException("Save error")));
 
         // When & Then
@@ -86,8 +87,8 @@ class ReactiveAdapterOperationsTest {
         DummyData data1 = new DummyData("1", "test1");
         DummyData data2 = new DummyData("2", "test2");
 
-        when(mapper.map(entity1, DummyData.class)).thenReturn(data1);
-        when(mapper.map(entity2, DummyData.class)).thenReturn(data2);
+        when(mapper.toData(entity1)).thenReturn(data1);
+        when(mapper.toData(entity2)).thenReturn(data2);
         when(repository.saveAll(any(Flux.class))).thenReturn(Flux.just(data1, data2));
 
         // When & Then
@@ -142,7 +143,7 @@ class ReactiveAdapterOperationsTest {
         DummyEntity entity = new DummyEntity("1", "test");
         DummyData data = new DummyData("1", "test");
 
-        when(mapper.map(entity, DummyData.class)).thenReturn(data);
+        when(mapper.toData(entity)).thenReturn(data);
         when(repository.findAll(any(Example.class))).thenReturn(Flux.just(data));
 
         // When & Then
@@ -150,7 +151,7 @@ class ReactiveAdapterOperationsTest {
                 .expectNext(entity)
                 .verifyComplete();
 
-        verify(mapper).map(entity, DummyData.class);
+        verify(mapper).toData(entity);
     }
 
     @SuppressWarnings("unchecked")
@@ -161,7 +162,7 @@ class ReactiveAdapterOperationsTest {
         DummyEntity entity = new DummyEntity("1", "test");
         DummyData data = new DummyData("1", "test");
 
-        when(mapper.map(entity, DummyData.class)).thenReturn(data);
+        when(mapper.toData(entity)).thenReturn(data);
         when(repository.findAll(any(Example.class))).thenReturn(Flux.empty());
 
         // When & Then
@@ -204,14 +205,14 @@ class ReactiveAdapterOperationsTest {
         DummyEntity entity = new DummyEntity("1", "test");
         DummyData expectedData = new DummyData("1", "test");
 
-        when(mapper.map(entity, DummyData.class)).thenReturn(expectedData);
+        when(mapper.toData(entity)).thenReturn(expectedData);
 
         // When
         DummyData result = operations.toData(entity);
 
         // Then
         assertEquals(expectedData, result);
-        verify(mapper).map(entity, DummyData.class);
+        verify(mapper).toData(entity);
     }
 
     @Test
@@ -226,6 +227,7 @@ class ReactiveAdapterOperationsTest {
 
         // Then
         assertEquals(expectedEntity, result);
+        verify(mapper).toEntity(data);
     }
 
     @Test
@@ -236,6 +238,7 @@ class ReactiveAdapterOperationsTest {
 
         // Then
         assertNull(result);
+        verify(mapper, never()).toEntity(any());
     }
 
     @Test
@@ -0,0 +1,94 @@
+package co.com.crediya.cy_authentication.r2dbc.mapper;
+
+import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.model.user.record.UserPageItem;
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserRowMapperTest {
+
+    @Test
+    @DisplayName("Should decode every column by index straight into the domain user without the password")
+    void shouldDecodeRowIntoUser() {
+        // Given
+        Row row = mock(Row.class);
+        when(row.get(0, BigInteger.class)).thenReturn(BigInteger.TEN);
+        when(row.get(1, Long.class)).thenReturn(12345678L);
+        when(row.get(2, Integer.class)).thenReturn(1);
+        when(row.get(3, String.class)).thenReturn("John");
+        when(row.get(4, String.class)).thenReturn("Doe");
+        when(row.get(5, LocalDate.class)).thenReturn(LocalDate.of(1990, 1, 1));
+        when(row.get(6, String.class)).thenReturn("Calle 1");
+        when(row.get(7, String.class)).thenReturn("3000000000");
+        when(row.get(8, String.class)).thenReturn("john.doe@example.com");
+        when(row.get(9, Double.class)).thenReturn(3000000.0);
+        when(row.get(10, Integer.class)).thenReturn(3);
+        when(row.get(11, Long.class)).thenReturn(7L);
+
+        // When
+        User user = UserRowMapper.toUser(row, mock(RowMetadata.class));
+
+        // Then
+        assertEquals(BigInteger.TEN, user.getId());
+        assertEquals(12345678L, user.getIdNumber());
+        assertEquals(1, user.getIdTypeId());
+        assertEquals("John", user.getName());
+        assertEquals("Doe", user.getLastname());
+        assertEquals(LocalDate.of(1990, 1, 1), user.getBirthDate());
+        assertEquals("Calle 1", user.getAddress());
+        assertEquals("3000000000", user.getPhone());
+        assertEquals("john.doe@example.com", user.getEmail());
+        assertEquals(3000000.0, user.getBaseSalary());
+        assertEquals(3, user.getRoleId());
+        assertNull(user.getPassword());
+        assertEquals(7L, user.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should keep nullable columns as null")
+    void shouldKeepNullableColumnsAsNull() {
+        // Given
+        Row row = mock(Row.class);
+        when(row.get(1, Long.class)).thenReturn(12345678L);
+
+        // When
+        User user = UserRowMapper.toUser(row, mock(RowMetadata.class));
+
+        // Then
+        assertEquals(12345678L, user.getIdNumber());
+        assertNull(user.getAddress());
+        assertNull(user.getPhone());
+    }
+
+    @Test
+    @DisplayName("Should decode the page projection in PAGE_COLUMNS order")
+    void shouldDecodePageItemByIndex() {
+        // Given
+        Row row = mock(Row.class);
+        when(row.get(0, BigInteger.class)).thenReturn(BigInteger.TEN);
+        when(row.get(1, Long.class)).thenReturn(12345678L);
+        when(row.get(2, Integer.class)).thenReturn(1);
+        when(row.get(3, String.class)).thenReturn("John");
+        when(row.get(4, String.class)).thenReturn("Doe");
+        when(row.get(5, String.class)).thenReturn("john.doe@example.com");
+        when(row.get(6, Double.class)).thenReturn(3000000.0);
+        when(row.get(7, Integer.class)).thenReturn(3);
+        when(row.get(8, Long.class)).thenReturn(7L);
+
+        // When
+        UserPageItem item = UserRowMapper.toPageItem(row, mock(RowMetadata.class));
+
+        // Then
+        assertEquals(new UserPageItem(BigInteger.TEN, 12345678L, 1, "John", "Doe", "john.doe@example.com", 3000000.0, 3, 7L), item);
+    }
+}
@@ -4,24 +4,34 @@ import lombok.RequiredArgsConstructor;
 
 import java.math.BigInteger;
 import java.net.URI;
-import java.util.List;
 
-import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 
+import com.fasterxml.jackson.databind.JsonNode;
+
+import co.com.crediya.cy_authentication.api.config.BulkDeleteProperties;
+import co.com.crediya.cy_authentication.api.config.BulkImportProperties;
+import co.com.crediya.cy_authentication.api.config.BulkLookupProperties;
 import co.com.crediya.cy_authentication.api.dto.CreateUserDTO;
 import co.com.crediya.cy_authentication.api.dto.EditUserDTO;
 import co.com.crediya.cy_authentication.api.dto.LoginRequest;
+import co.com.crediya.cy_authentication.api.dto.UserBasicInfo;
+import co.com.crediya.cy_authentication.api.dto.UserDTO;
+import co.com.crediya.cy_authentication.api.dto.UserPageDTO;
 import co.com.crediya.cy_authentication.api.mapper.UserDTOMapper;
 import co.com.crediya.cy_authentication.exception.InvalidCredentialsException;
+import co.com.crediya.cy_authentication.exception.InvalidUserDataException;
+import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.model.user.record.UserImportResult;
 import co.com.crediya.cy_authentication.usecase.authenticateuser.AuthenticateUserUseCase;
 import co.com.crediya.cy_authentication.usecase.idtype.IdTypeUseCase;
 import co.com.crediya.cy_authentication.usecase.role.RoleUseCase;
 import co.com.crediya.cy_authentication.usecase.user.UserUseCase;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Component
@@ -32,19 +42,49 @@ public class Handler {
     private final RoleUseCase roleUseCase;
     private final UserDTOMapper userMapper;
     private final AuthenticateUserUseCase authenticateUserUseCase;
+    private final BulkLookupProperties bulkLookupProperties;
+    private final BulkImportProperties bulkImportProperties;
+    private final BulkDeleteProperties bulkDeleteProperties;
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
 
     public Mono<ServerResponse> getAllUsers(ServerRequest serverRequest) {
-        return userUseCase.getAllUsers().collectList()
-            .flatMap(userList -> ServerResponse.ok().bodyValue(userMapper.toResponseList(userList)));
+        return ServerResponse.ok()
+            .contentType(streamingMediaType(serverRequest))
+            .body(userUseCase.getAllUsers().map(userMapper::toResponse), UserDTO.class);
+    }
+
+    public Mono<ServerResponse> getUsersPage(ServerRequest serverRequest) {
+        return Mono.defer(() -> userUseCase.getUsersPage(
+                PageCursorCodec.decode(serverRequest.queryParam("cursor").orElse(null)),
+                intQueryParam(serverRequest, "size"),
+                intQueryParam(serverRequest, "roleId"),
+                intQueryParam(serverRequest, "idTypeId")))
+            .flatMap(page -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserPageDTO(
+                    userMapper.toResponsePageItems(page.users()),
+                    PageCursorCodec.encode(page.nextAfterId()),
+                    page.hasMore())));
     }
 
     public Mono<ServerResponse> getUsersBasicInfo(ServerRequest serverRequest) {
-        return serverRequest.bodyToMono(new ParameterizedTypeReference<List<String>>() {})
-            .flatMap(emails -> userUseCase.getUsersByEmail(emails)
-                .collectList()
-                .flatMap(userList -> ServerResponse.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .bodyValue(userMapper.toResponseBasicList(userList))));
+        // JsonNode y no String: con String el decoder de texto toma el cuerpo y no separa los elementos del arreglo
+        Flux<String> emails = serverRequest.bodyToFlux(JsonNode.class)
+            .map(node -> {
+                if (!node.isTextual()) {
+                    throw new InvalidUserDataException("Cada elemento de la lista debe ser un correo electrónico");
+                }
+                return node.textValue();
+            });
+
+        Flux<UserBasicInfo> users = userUseCase.streamUsersByEmail(
+                emails, bulkLookupProperties.chunkSize(), bulkLookupProperties.concurrency())
+            .map(userMapper::toResponseBasic);
+
+        return ServerResponse.ok()
+            .contentType(streamingMediaType(serverRequest))
+            .body(users, UserBasicInfo.class);
     }
 
     public Mono<ServerResponse> updateUser(ServerRequest serverRequest) {
@@ -56,6 +96,25 @@ public class Handler {
                 .bodyValue(userMapper.toResponse(updatedUser)));
     }
 
+    public Mono<ServerResponse> importUsers(ServerRequest serverRequest) {
+        boolean csv = serverRequest.headers().contentType()
+            .map(TEXT_CSV::isCompatibleWith)
+            .orElse(false);
+
+        // Cada fila se decodifica a medida que llega el cuerpo y su resultado se emite apenas termina su lote
+        Flux<User> users = (csv
+                ? UserCsvReader.read(serverRequest.bodyToFlux(String.class))
+                : serverRequest.bodyToFlux(CreateUserDTO.class))
+            .map(userMapper::toModel);
+
+        Flux<UserImportResult> results = userUseCase.importUsers(
+            users, bulkImportProperties.batchSize(), bulkImportProperties.hashConcurrency());
+
+        return ServerResponse.ok()
+            .contentType(streamingMediaType(serverRequest))
+            .body(results, UserImportResult.class);
+    }
+
     public Mono<ServerResponse> createUser(ServerRequest serverRequest) {
         return serverRequest.bodyToMono(CreateUserDTO.class)
             .map(userMapper::toModel)
@@ -70,6 +129,15 @@ public class Handler {
             .then(ServerResponse.ok().build());
     }
 
+    public Mono<ServerResponse> deleteUsers(ServerRequest serverRequest) {
+        return serverRequest.bodyToFlux(Long.class)
+            .collectList()
+            .flatMap(idNumbers -> userUseCase.deleteUsers(idNumbers, bulkDeleteProperties.chunkSize()))
+            .flatMap(result -> ServerResponse.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(result));
+    }
+
     public Mono<ServerResponse> getByidNumber(ServerRequest serverRequest) {
         return userUseCase.getByIdNumber(Long.parseLong(serverRequest.pathVariable("idNumber")))
             .flatMap(user -> ServerResponse.ok().bodyValue(userMapper.toResponseBasic(user)));
@@ -111,4 +179,22 @@ public class Handler {
                 .flatMap(jwt -> ServerResponse.ok().bodyValue(jwt))
             );
     }
+
+    private static MediaType streamingMediaType(ServerRequest serverRequest) {
+        return serverRequest.headers().accept().contains(MediaType.APPLICATION_NDJSON)
+            ? MediaType.APPLICATION_NDJSON
+            : MediaType.APPLICATION_JSON;
+    }
+
+    private static Integer intQueryParam(ServerRequest serverRequest, String name) {
+        return serverRequest.queryParam(name)
+            .map(value -> {
+                try {
+                    return Integer.valueOf(value);
+                } catch (NumberFormatException ex) {
+                    throw new InvalidUserDataException("El parámetro " + name + " debe ser numérico", ex);
+                }
+            })
+            .orElse(null);
+    }
 }
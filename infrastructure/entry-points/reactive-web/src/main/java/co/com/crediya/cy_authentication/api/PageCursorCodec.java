@@ -0,0 +1,38 @@
+package co.com.crediya.cy_authentication.api;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import co.com.crediya.cy_authentication.exception.InvalidUserDataException;
+
+final class PageCursorCodec {
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    private PageCursorCodec() {
+    }
+
+    static String encode(BigInteger lastId) {
+        if (lastId == null) {
+            return null;
+        }
+        byte[] raw = (VERSION_PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    static BigInteger decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(VERSION_PREFIX)) {
+                throw new InvalidUserDataException("El cursor de paginación no es válido");
+            }
+            return new BigInteger(raw.substring(VERSION_PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidUserDataException("El cursor de paginación no es válido", ex);
+        }
+    }
+}
@@ -11,9 +11,12 @@ import co.com.crediya.cy_authentication.api.dto.EditUserDTO;
 import co.com.crediya.cy_authentication.api.dto.LoginRequest;
 import co.com.crediya.cy_authentication.api.dto.UserBasicInfo;
 import co.com.crediya.cy_authentication.api.dto.UserDTO;
+import co.com.crediya.cy_authentication.api.dto.UserPageDTO;
 import co.com.crediya.cy_authentication.model.idtype.IdType;
 import co.com.crediya.cy_authentication.model.role.Role;
 import co.com.crediya.cy_authentication.model.security.JwtToken;
+import co.com.crediya.cy_authentication.model.user.record.UserBulkDeletion;
+import co.com.crediya.cy_authentication.model.user.record.UserImportResult;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -47,12 +50,65 @@ public class RouterRest {
                 operationId = "getAllUsers",
                 tags = {"Usuarios"},
                 summary = "Obtener todos los usuarios",
-                description = "Retorna una lista con todos los usuarios registrados",
+                description = "Retorna todos los usuarios registrados a medida que se leen de la base de datos. " +
+                    "Con Accept: application/x-ndjson se emite un usuario por línea; en otro caso un arreglo JSON",
                 responses = {
                     @ApiResponse(
                         responseCode = "200", 
                         description = "Lista de usuarios obtenida exitosamente",
-                        content = @Content(schema = @Schema(implementation = UserDTO.class))
+                        content = {
+                            @Content(
+                                mediaType = "application/json",
+                                array = @ArraySchema(schema = @Schema(implementation = UserDTO.class))
+                            ),
+                            @Content(
+                                mediaType = "application/x-ndjson",
+                                schema = @Schema(implementation = UserDTO.class)
+                            )
+                        }
+                    )
+                }
+            )
+        ),
+        @RouterOperation(
+            path = userBaseRoute + "/paginado",
+            method = RequestMethod.GET,
+            operation = @Operation(
+                operationId = "getUsersPage",
+                tags = {"Usuarios"},
+                summary = "Obtener usuarios paginados",
+                description = "Retorna una página de usuarios ordenada por ID. Para la siguiente página se envía el nextCursor de la respuesta anterior",
+                parameters = {
+                    @Parameter(
+                        name = "cursor",
+                        description = "Cursor opaco devuelto en nextCursor por la página anterior",
+                        in = ParameterIn.QUERY,
+                        schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                        name = "size",
+                        description = "Cantidad de usuarios por página (1 a 100, por defecto 20)",
+                        in = ParameterIn.QUERY,
+                        schema = @Schema(type = "integer", format = "int32")
+                    ),
+                    @Parameter(
+                        name = "roleId",
+                        description = "Filtra por ID de rol",
+                        in = ParameterIn.QUERY,
+                        schema = @Schema(type = "integer", format = "int32")
+                    ),
+                    @Parameter(
+                        name = "idTypeId",
+                        description = "Filtra por ID de tipo de identificación",
+                        in = ParameterIn.QUERY,
+                        schema = @Schema(type = "integer", format = "int32")
+                    )
+                },
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200",
+                        description = "Página de usuarios obtenida exitosamente",
+                        content = @Content(schema = @Schema(implementation = UserPageDTO.class))
                     )
                 }
             )
@@ -64,25 +120,40 @@ public class RouterRest {
                 operationId = "getAllUsersBasicInfo",
                 tags = {"Usuarios"},
                 summary = "Obtener la información básica de todos los usuarios cuyo email llega en la lista",
-                description = "Obtiene una lista de e-mails y retorna una lista con la información básica de todos los usuarios registrados qye hagan match",
+                description = "Recibe los e-mails como arreglo JSON o NDJSON, los consulta por lotes y retorna la información básica " +
+                    "de los usuarios que hagan match a medida que se encuentran, sin garantizar el orden de la lista. " +
+                    "Con Accept: application/x-ndjson se emite un usuario por línea",
                 requestBody = @RequestBody(
                     required = true,
-                    content = @Content(
-                        mediaType = "application/json",
-                        array = @ArraySchema(
+                    content = {
+                        @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(
+                                schema = @Schema(implementation = String.class)
+                            )
+                        ),
+                        @Content(
+                            mediaType = "application/x-ndjson",
                             schema = @Schema(implementation = String.class)
                         )
-                    )
+                    }
                 ),
                 responses = {
                     @ApiResponse(
                         responseCode = "200", 
                         description = "Lista de información básica de usuarios obtenida exitosamente",
-                        content = @Content(
-                            array = @ArraySchema(
+                        content = {
+                            @Content(
+                                mediaType = "application/json",
+                                array = @ArraySchema(
+                                    schema = @Schema(implementation = UserBasicInfo.class)
+                                )
+                            ),
+                            @Content(
+                                mediaType = "application/x-ndjson",
                                 schema = @Schema(implementation = UserBasicInfo.class)
                             )
-                        )
+                        }
                     )
                 }
             )
@@ -133,6 +204,10 @@ public class RouterRest {
                     @ApiResponse(
                         responseCode = "404", 
                         description = "Usuario no encontrado"
+                    ),
+                    @ApiResponse(
+                        responseCode = "409",
+                        description = "La versión enviada no coincide con la versión actual del usuario"
                     )
                 }
             )
@@ -166,6 +241,86 @@ public class RouterRest {
                 }
             )
         ),
+        @RouterOperation(
+            path = userBaseRoute + "/importar",
+            method = RequestMethod.POST,
+            operation = @Operation(
+                operationId = "importUsers",
+                tags = {"Usuarios"},
+                summary = "Importar usuarios de forma masiva",
+                description = "Recibe los usuarios como NDJSON, arreglo JSON o CSV con encabezado, los valida con las mismas " +
+                    "reglas del registro individual, los inserta por lotes y retorna el resultado de cada fila en el orden recibido. " +
+                    "Con Accept: application/x-ndjson se emite un resultado por línea a medida que se procesa cada lote",
+                requestBody = @RequestBody(
+                    required = true,
+                    content = {
+                        @Content(
+                            mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = CreateUserDTO.class)
+                        ),
+                        @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(
+                                schema = @Schema(implementation = CreateUserDTO.class)
+                            )
+                        ),
+                        @Content(
+                            mediaType = "text/csv",
+                            schema = @Schema(type = "string")
+                        )
+                    }
+                ),
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200",
+                        description = "Resultado por fila de la importación",
+                        content = {
+                            @Content(
+                                mediaType = "application/json",
+                                array = @ArraySchema(
+                                    schema = @Schema(implementation = UserImportResult.class)
+                                )
+                            ),
+                            @Content(
+                                mediaType = "application/x-ndjson",
+                                schema = @Schema(implementation = UserImportResult.class)
+                            )
+                        }
+                    )
+                }
+            )
+        ),
+        @RouterOperation(
+            path = userBaseRoute + "/eliminar",
+            method = RequestMethod.POST,
+            operation = @Operation(
+                operationId = "deleteUsers",
+                tags = {"Usuarios"},
+                summary = "Eliminar varios usuarios",
+                description = "Recibe un arreglo JSON de números de identificación y los elimina por lotes, " +
+                    "indicando cuáles se eliminaron y cuáles no existían",
+                requestBody = @RequestBody(
+                    required = true,
+                    content = @Content(
+                        mediaType = "application/json",
+                        array = @ArraySchema(
+                            schema = @Schema(type = "integer", format = "int64")
+                        )
+                    )
+                ),
+                responses = {
+                    @ApiResponse(
+                        responseCode = "200",
+                        description = "Resultado de la eliminación",
+                        content = @Content(schema = @Schema(implementation = UserBulkDeletion.class))
+                    ),
+                    @ApiResponse(
+                        responseCode = "400",
+                        description = "Lista vacía o con valores inválidos"
+                    )
+                }
+            )
+        ),
         @RouterOperation(
             path = userBaseRoute + "/{userEmail}", 
             method = RequestMethod.GET,
@@ -299,9 +454,12 @@ public class RouterRest {
         return route(GET(userBaseRoute), handler::getAllUsers)
             .andRoute(POST(userBaseRoute + "/infoUsuarios"), handler::getUsersBasicInfo)
             .andRoute(GET(userBaseRoute + "/consultarPorToken"), handler::getUserByToken)
+            .andRoute(GET(userBaseRoute + "/paginado"), handler::getUsersPage)
             .andRoute(POST(userBaseRoute), handler::createUser)
             .andRoute(PUT(userBaseRoute), handler::updateUser)
             .andRoute(DELETE(userBaseRoute.concat("/{idNumber}")), handler::deleteUser)
+            .andRoute(POST(userBaseRoute + "/eliminar"), handler::deleteUsers)
+            .andRoute(POST(userBaseRoute + "/importar"), handler::importUsers)
             .andRoute(GET(userBaseRoute.concat("/{userEmail}")), handler::getByEmail)
             .andRoute(GET(userBaseRoute.concat("/detallesUsuario/{idNumber}")), handler::getByidNumber)
             .andRoute(GET(userBaseRoute + idTypesBaseRoute), handler::getAllIdTypes)
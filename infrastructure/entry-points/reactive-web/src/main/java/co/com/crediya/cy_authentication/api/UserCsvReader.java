@@ -0,0 +1,122 @@
+package co.com.crediya.cy_authentication.api;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import co.com.crediya.cy_authentication.api.dto.CreateUserDTO;
+import co.com.crediya.cy_authentication.exception.InvalidUserDataException;
+import reactor.core.publisher.Flux;
+
+final class UserCsvReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+        "idNumber", "idTypeId", "name", "lastname", "birthDate", "email", "baseSalary", "roleId", "password");
+    private static final List<String> OPTIONAL_COLUMNS = List.of("address", "phone");
+
+    private UserCsvReader() {
+    }
+
+    // La primera línea es el encabezado con los nombres de los campos de CreateUserDTO, en cualquier orden
+    static Flux<CreateUserDTO> read(Flux<String> lines) {
+        return lines
+            .filter(line -> !line.isBlank())
+            .switchOnFirst((first, all) -> {
+                if (!first.hasValue()) {
+                    return all.ignoreElements().thenMany(Flux.<CreateUserDTO>empty());
+                }
+                Map<String, Integer> header = parseHeader(first.get());
+                AtomicLong row = new AtomicLong();
+                return all.skip(1).map(line -> toDto(split(line), header, row.incrementAndGet()));
+            });
+    }
+
+    private static Map<String, Integer> parseHeader(String line) {
+        List<String> names = split(line.startsWith("\uFEFF") ? line.substring(1) : line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim();
+            if (!REQUIRED_COLUMNS.contains(name) && !OPTIONAL_COLUMNS.contains(name)) {
+                throw new InvalidUserDataException("Columna desconocida en el encabezado: " + name);
+            }
+            header.put(name, i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(name -> !header.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidUserDataException("Faltan columnas en el encabezado: " + String.join(", ", missing));
+        }
+        return header;
+    }
+
+    private static CreateUserDTO toDto(List<String> values, Map<String, Integer> header, long row) {
+        CreateUserDTO dto = new CreateUserDTO();
+        dto.setIdNumber(parse(values, header, "idNumber", row, Long::valueOf));
+        dto.setIdTypeId(parse(values, header, "idTypeId", row, Integer::valueOf));
+        dto.setName(value(values, header, "name"));
+        dto.setLastname(value(values, header, "lastname"));
+        dto.setBirthDate(parse(values, header, "birthDate", row, LocalDate::parse));
+        dto.setAddress(value(values, header, "address"));
+        dto.setPhone(value(values, header, "phone"));
+        dto.setEmail(value(values, header, "email"));
+        dto.setBaseSalary(parse(values, header, "baseSalary", row, Double::valueOf));
+        dto.setRoleId(parse(values, header, "roleId", row, Integer::valueOf));
+        dto.setPassword(value(values, header, "password"));
+        return dto;
+    }
+
+    private static String value(List<String> values, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static <T> T parse(List<String> values, Map<String, Integer> header, String column, long row, Function<String, T> parser) {
+        String value = value(values, header, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return parser.apply(value);
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new InvalidUserDataException("Fila " + row + ": valor inválido para la columna " + column, ex);
+        }
+    }
+
+    // Separa por comas respetando campos entre comillas dobles ("" representa una comilla literal)
+    private static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        int end = line.endsWith("\r") ? line.length() - 1 : line.length();
+        for (int i = 0; i < end; i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < end && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
@@ -0,0 +1,70 @@
+package co.com.crediya.cy_authentication.api.config;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_HASH = Pattern.compile("^\\$2[aby]?\\$(\\d{2})\\$");
+    private static final String ARGON2_PREFIX = "$argon2";
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+
+    private final PasswordEncoder target;
+    private final Integer targetBcryptStrength;
+    private final BCryptPasswordEncoder bcryptVerifier = new BCryptPasswordEncoder();
+    private final Argon2PasswordEncoder argon2Verifier;
+
+    private AdaptivePasswordEncoder(PasswordEncoder target, Integer targetBcryptStrength, Argon2PasswordEncoder argon2Verifier) {
+        this.target = target;
+        this.targetBcryptStrength = targetBcryptStrength;
+        this.argon2Verifier = argon2Verifier;
+    }
+
+    public static AdaptivePasswordEncoder bcrypt(int strength) {
+        return new AdaptivePasswordEncoder(
+            new BCryptPasswordEncoder(strength),
+            strength,
+            Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+        );
+    }
+
+    public static AdaptivePasswordEncoder argon2id(int memoryKib, int iterations, int parallelism) {
+        Argon2PasswordEncoder argon2 = new Argon2PasswordEncoder(
+            ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, parallelism, memoryKib, iterations);
+        return new AdaptivePasswordEncoder(argon2, null, argon2);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return target.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (isArgon2(encodedPassword)) {
+            return argon2Verifier.matches(rawPassword, encodedPassword);
+        }
+        return bcryptVerifier.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        if (targetBcryptStrength == null) {
+            return !isArgon2(encodedPassword) || target.upgradeEncoding(encodedPassword);
+        }
+        Matcher bcrypt = BCRYPT_HASH.matcher(encodedPassword);
+        return !bcrypt.find() || Integer.parseInt(bcrypt.group(1)) != targetBcryptStrength;
+    }
+
+    private static boolean isArgon2(String encodedPassword) {
+        return encodedPassword != null && encodedPassword.startsWith(ARGON2_PREFIX);
+    }
+}
@@ -0,0 +1,42 @@
+package co.com.crediya.cy_authentication.api.config;
+
+import java.time.Duration;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Mide el costo de BCrypt en este host y sugiere una fuerza; el resultado solo se registra en el log
+@Slf4j
+public final class BCryptCostCalibrator {
+    public static final int MIN_STRENGTH = 10;
+    public static final int MAX_STRENGTH = 16;
+
+    private static final int PROBE_STRENGTH = 8;
+    private static final int PROBE_ROUNDS = 3;
+    private static final String PROBE_PASSWORD = "calibration-probe";
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration targetLatency) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(PROBE_STRENGTH);
+        String probeHash = probe.encode(PROBE_PASSWORD);
+
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < PROBE_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.matches(PROBE_PASSWORD, probeHash);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        // Cada punto de costo duplica el trabajo de BCrypt
+        double doublings = Math.log((double) targetLatency.toNanos() / Math.max(fastest, 1L)) / Math.log(2);
+        int strength = PROBE_STRENGTH + (int) Math.floor(doublings);
+        int calibrated = Math.max(MIN_STRENGTH, Math.min(MAX_STRENGTH, strength));
+
+        log.info("BCrypt calibration suggests strength {} (cost {} took {} us, target {} ms)",
+            calibrated, PROBE_STRENGTH, fastest / 1_000, targetLatency.toMillis());
+        return calibrated;
+    }
+}
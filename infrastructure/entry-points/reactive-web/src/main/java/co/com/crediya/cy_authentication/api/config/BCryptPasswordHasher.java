@@ -4,13 +4,16 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 import co.com.crediya.cy_authentication.model.security.gateways.PasswordHasher;
+import reactor.core.publisher.Mono;
 
 @Component
 public class BCryptPasswordHasher implements PasswordHasher {
     private final PasswordEncoder encoder;
+    private final PasswordHashingExecutor hashingExecutor;
 
-    public BCryptPasswordHasher(PasswordEncoder encoder) {
+    public BCryptPasswordHasher(PasswordEncoder encoder, PasswordHashingExecutor hashingExecutor) {
         this.encoder = encoder;
+        this.hashingExecutor = hashingExecutor;
     }
 
     @Override
@@ -22,4 +25,19 @@ public class BCryptPasswordHasher implements PasswordHasher {
     public boolean matches(String raw, String hashed) {
         return encoder.matches(raw, hashed);
     }
+
+    @Override
+    public boolean needsRehash(String hashed) {
+        return encoder.upgradeEncoding(hashed);
+    }
+
+    @Override
+    public Mono<String> hashAsync(String raw) {
+        return hashingExecutor.submit("hash", () -> hash(raw));
+    }
+
+    @Override
+    public Mono<Boolean> matchesAsync(String raw, String hashed) {
+        return hashingExecutor.submit("matches", () -> matches(raw, hashed));
+    }
 }
@@ -0,0 +1,12 @@
+package co.com.crediya.cy_authentication.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "users.bulk-delete")
+public record BulkDeleteProperties(
+        Integer chunkSize) {
+
+    public BulkDeleteProperties {
+        chunkSize = chunkSize == null || chunkSize <= 0 ? 500 : chunkSize;
+    }
+}
@@ -0,0 +1,14 @@
+package co.com.crediya.cy_authentication.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "users.bulk-import")
+public record BulkImportProperties(
+        Integer batchSize,
+        Integer hashConcurrency) {
+
+    public BulkImportProperties {
+        batchSize = batchSize == null || batchSize <= 0 ? 500 : batchSize;
+        hashConcurrency = hashConcurrency == null || hashConcurrency <= 0 ? 4 : hashConcurrency;
+    }
+}
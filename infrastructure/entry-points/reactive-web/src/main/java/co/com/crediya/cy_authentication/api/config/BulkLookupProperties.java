@@ -0,0 +1,14 @@
+package co.com.crediya.cy_authentication.api.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "users.bulk-lookup")
+public record BulkLookupProperties(
+        Integer chunkSize,
+        Integer concurrency) {
+
+    public BulkLookupProperties {
+        chunkSize = chunkSize == null || chunkSize <= 0 ? 500 : chunkSize;
+        concurrency = concurrency == null || concurrency <= 0 ? 4 : concurrency;
+    }
+}
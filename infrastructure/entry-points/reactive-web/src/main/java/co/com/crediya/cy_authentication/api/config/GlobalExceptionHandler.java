@@ -4,9 +4,12 @@ import co.com.crediya.cy_authentication.api.dto.ErrorResponse;
 import co.com.crediya.cy_authentication.exception.DataPersistenceException;
 import co.com.crediya.cy_authentication.exception.InvalidCredentialsException;
 import co.com.crediya.cy_authentication.exception.InvalidUserDataException;
+import co.com.crediya.cy_authentication.exception.ServiceOverloadedException;
 import co.com.crediya.cy_authentication.exception.UserNotFoundException;
+import co.com.crediya.cy_authentication.exception.UserVersionConflictException;
 import reactor.core.publisher.Mono;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -44,6 +47,19 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse));
     }
 
+    @ExceptionHandler(UserVersionConflictException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleUserVersionConflictException(
+            UserVersionConflictException ex, ServerWebExchange exchange) {
+        
+        String path = exchange.getRequest().getPath().value();
+        String traceId = exchange.getRequest().getId();
+        
+        ErrorResponse errorResponse = buildErrorResponse(
+                path, ex.getMessage(), HttpStatus.CONFLICT, traceId);
+        
+        return Mono.just(ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse));
+    }
+
     @ExceptionHandler(exception = { InvalidCredentialsException.class, BadCredentialsException.class })
     public Mono<ResponseEntity<ErrorResponse>> handleInvalidCredentialsException(
         Exception ex, ServerWebExchange exchange) {
@@ -71,6 +87,21 @@ public class GlobalExceptionHandler {
         return Mono.just(ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse));
     }
     
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleServiceOverloadedException(
+            ServiceOverloadedException ex, ServerWebExchange exchange) {
+        
+        String path = exchange.getRequest().getPath().value();
+        String traceId = exchange.getRequest().getId();
+        
+        ErrorResponse errorResponse = buildErrorResponse(
+                path, ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE, traceId);
+        
+        return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse));
+    }
+    
     @ExceptionHandler(Exception.class)
     public Mono<ResponseEntity<ErrorResponse>> handleGenericException(
             Exception ex, ServerWebExchange exchange) {
@@ -1,5 +1,6 @@
 package co.com.crediya.cy_authentication.api.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -7,36 +8,59 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import co.com.crediya.cy_authentication.model.security.TokenData;
 import co.com.crediya.cy_authentication.model.security.gateways.TokenGenerator;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Component
 public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
 
     private final TokenGenerator tokens;
+    private final VerifiedTokenCache tokenCache;
+    private final boolean verifyOnBoundedElastic;
 
-    public JwtReactiveAuthenticationManager(TokenGenerator tokens) {
+    public JwtReactiveAuthenticationManager(
+        TokenGenerator tokens,
+        VerifiedTokenCache tokenCache,
+        @Value("${security.jwt.verify-on-bounded-elastic:false}") boolean verifyOnBoundedElastic
+    ) {
         this.tokens = tokens;
+        this.tokenCache = tokenCache;
+        this.verifyOnBoundedElastic = verifyOnBoundedElastic;
     }
 
     @Override
     public Mono<Authentication> authenticate(Authentication authentication) {
         String token = (String) authentication.getCredentials();
-        return Mono.fromCallable(() -> tokens.verify(token))
-            .subscribeOn(Schedulers.boundedElastic())
+        Optional<Authentication> cached = tokenCache.get(token);
+        if (cached.isPresent()) {
+            return Mono.just(cached.get());
+        }
+
+        return verify(token)
             .flatMap(opt -> opt
                 .map(data -> {
                 List<SimpleGrantedAuthority> authorities = data.getRoles().stream()
                     .map(r -> new SimpleGrantedAuthority("ROLE_" + RolesEnum.getRoleById(r)))
                     .collect(Collectors.toList());
-                return new UsernamePasswordAuthenticationToken(data.getSubject(), token, authorities);
+                Authentication verified = new UsernamePasswordAuthenticationToken(data.getSubject(), token, authorities);
+                tokenCache.put(token, verified, data.getExpiresAt());
+                return verified;
                 })
                 .map(Mono::just)
                 .orElseGet(() -> Mono.error(new BadCredentialsException("Sesión expirada o token inválido")))
             );
     }
+
+    private Mono<Optional<TokenData>> verify(String token) {
+        Mono<Optional<TokenData>> verification = Mono.fromCallable(() -> tokens.verify(token));
+        return verifyOnBoundedElastic
+            ? verification.subscribeOn(Schedulers.boundedElastic())
+            : verification;
+    }
 }
@@ -51,7 +51,11 @@ public class JwtTokenGenerator implements TokenGenerator {
             Claims claims = parser.parseClaimsJws(token).getBody();
             String subject = claims.getSubject();
             List<Integer> roles = claims.get("roles", List.class);
-            return Optional.of(new TokenData(subject, roles));
+            TokenData tokenData = new TokenData(subject, roles);
+            if (claims.getExpiration() != null) {
+                tokenData.setExpiresAt(claims.getExpiration().toInstant());
+            }
+            return Optional.of(tokenData);
         } catch (JwtException e) {
             return Optional.empty();
         }
@@ -0,0 +1,32 @@
+package co.com.crediya.cy_authentication.api.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        if (PasswordHashingProperties.ARGON2ID.equals(properties.algorithm())) {
+            return AdaptivePasswordEncoder.argon2id(
+                properties.argon2MemoryKib(),
+                properties.argon2Iterations(),
+                properties.argon2Parallelism()
+            );
+        }
+
+        if (properties.calibrate()) {
+            int suggested = BCryptCostCalibrator.calibrate(properties.targetLatency());
+            if (suggested != properties.bcryptStrength()) {
+                log.warn("BCrypt strength {} differs from the calibrated suggestion {} for this host; keeping the configured value",
+                    properties.bcryptStrength(), suggested);
+            }
+        }
+        return AdaptivePasswordEncoder.bcrypt(properties.bcryptStrength());
+    }
+}
@@ -0,0 +1,30 @@
+package co.com.crediya.cy_authentication.api.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "security.password")
+public record PasswordHashingProperties(
+        String algorithm,
+        Duration targetLatency,
+        Integer bcryptStrength,
+        boolean calibrate,
+        Integer argon2MemoryKib,
+        Integer argon2Iterations,
+        Integer argon2Parallelism) {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String ARGON2ID = "argon2id";
+    // Costo fijo y común a todos los nodos; la calibración solo sugiere, nunca lo cambia
+    public static final int DEFAULT_BCRYPT_STRENGTH = 12;
+
+    public PasswordHashingProperties {
+        algorithm = algorithm == null || algorithm.isBlank() ? BCRYPT : algorithm.trim().toLowerCase();
+        targetLatency = targetLatency == null ? Duration.ofMillis(100) : targetLatency;
+        bcryptStrength = bcryptStrength == null || bcryptStrength <= 0 ? DEFAULT_BCRYPT_STRENGTH : bcryptStrength;
+        argon2MemoryKib = argon2MemoryKib == null ? 16384 : argon2MemoryKib;
+        argon2Iterations = argon2Iterations == null ? 2 : argon2Iterations;
+        argon2Parallelism = argon2Parallelism == null ? 1 : argon2Parallelism;
+    }
+}
@@ -8,8 +8,6 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
 import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
 import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
@@ -25,11 +23,6 @@ public class SecurityConfig {
     
     private final String baseURL = "/api/v1/usuarios";
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
-
     @Bean
     public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
         ReactiveAuthenticationManager authManager,
@@ -52,13 +45,15 @@ public class SecurityConfig {
             )
             .authorizeExchange(auth -> auth
                 .pathMatchers("/actuator/health").permitAll()
+                .pathMatchers(HttpMethod.POST, "/actuator/referencedata", "/actuator/connectionpool")
+                    .hasRole(RolesEnum.ADMIN.toString())
                 .pathMatchers("/swagger-ui.html", "/swagger-ui/**").permitAll()
                 .pathMatchers("/v3/api-docs", "/v3/api-docs/**", "/v3/api-docs.yaml", "/v3/api-docs/swagger-config").permitAll()
                 .pathMatchers("/api-docs", "/api-docs/**", "/api-docs.yaml", "/api-docs/swagger-config").permitAll()
                 .pathMatchers("/webjars/**").permitAll()
                 .pathMatchers(HttpMethod.POST, baseURL + "/infoUsuarios").permitAll()
                 .pathMatchers(HttpMethod.POST, baseURL + "/login").permitAll()
-                .pathMatchers(HttpMethod.POST, baseURL)
+                .pathMatchers(HttpMethod.POST, baseURL, baseURL + "/importar", baseURL + "/eliminar")
                     .hasAnyRole(RolesEnum.ADMIN.toString(), RolesEnum.ASESOR.toString())
                 .anyExchange().authenticated()
             )
@@ -46,4 +46,7 @@ public class EditUserDTO {
 
     @Schema(description = "Contraseña del usuario", example = "123456")
     private String password;
+
+    @Schema(description = "Versión del usuario leída antes de editar; si no coincide la edición se rechaza", example = "3")
+    private Long version;
 }
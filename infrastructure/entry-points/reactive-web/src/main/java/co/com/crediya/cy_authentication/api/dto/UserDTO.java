@@ -46,6 +46,6 @@ public class UserDTO {
     @Schema(description = "Rol del usuario (1: Admin, 2: Asesor, etc.)", example = "1")
     private Role role;
 
-    @Schema(description = "Contraseña del usuario", example = "123456")
-    private String password;
+    @Schema(description = "Versión actual del usuario", example = "3")
+    private Long version;
 }
@@ -0,0 +1,9 @@
+package co.com.crediya.cy_authentication.api.dto;
+
+import java.util.List;
+
+public record UserPageDTO(
+    List<UserPageItemDTO> users,
+    String nextCursor,
+    boolean hasMore
+) {}
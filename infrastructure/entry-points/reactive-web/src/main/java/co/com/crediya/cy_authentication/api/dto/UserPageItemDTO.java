@@ -0,0 +1,12 @@
+package co.com.crediya.cy_authentication.api.dto;
+
+public record UserPageItemDTO(
+    Long idNumber,
+    Integer idTypeId,
+    String name,
+    String lastname,
+    String email,
+    Double baseSalary,
+    Integer roleId,
+    Long version
+) {}
@@ -9,27 +9,32 @@ import co.com.crediya.cy_authentication.api.dto.CreateUserDTO;
 import co.com.crediya.cy_authentication.api.dto.EditUserDTO;
 import co.com.crediya.cy_authentication.api.dto.UserBasicInfo;
 import co.com.crediya.cy_authentication.api.dto.UserDTO;
+import co.com.crediya.cy_authentication.api.dto.UserPageItemDTO;
 import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.model.user.record.UserPageItem;
 import co.com.crediya.cy_authentication.model.user.record.UserRecord;
+import co.com.crediya.cy_authentication.model.user.record.UserSummary;
 
 @Mapper(componentModel = "spring")
 public interface UserDTOMapper {
     UserDTO toResponse(UserRecord user);
     
-    UserBasicInfo toResponseBasic(UserRecord user);
+    UserBasicInfo toResponseBasic(UserSummary user);
 
     List<UserDTO> toResponseList(List<UserRecord> users);
 
+    List<UserPageItemDTO> toResponsePageItems(List<UserPageItem> users);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "idType", ignore = true)
     @Mapping(target = "birthDate", ignore = true)
     @Mapping(target = "address", ignore = true)
     @Mapping(target = "phone", ignore = true)
     @Mapping(target = "role", ignore = true)
-    @Mapping(target = "password", ignore = true)
     List<UserBasicInfo> toResponseBasicList(List<UserRecord> users);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
     User toModel(CreateUserDTO createUserDTO);
     
     @Mapping(target = "id", ignore = true)
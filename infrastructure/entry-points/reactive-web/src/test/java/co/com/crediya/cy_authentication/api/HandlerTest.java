@@ -1,13 +1,24 @@
 package co.com.crediya.cy_authentication.api;
 
+import co.com.crediya.cy_authentication.api.config.BulkDeleteProperties;
+import co.com.crediya.cy_authentication.api.config.BulkImportProperties;
+import co.com.crediya.cy_authentication.api.config.BulkLookupProperties;
 import co.com.crediya.cy_authentication.api.dto.CreateUserDTO;
+import co.com.crediya.cy_authentication.api.dto.UserBasicInfo;
 import co.com.crediya.cy_authentication.api.dto.EditUserDTO;
 import co.com.crediya.cy_authentication.api.dto.UserDTO;
+import co.com.crediya.cy_authentication.api.dto.UserPageItemDTO;
 import co.com.crediya.cy_authentication.api.mapper.UserDTOMapper;
 import co.com.crediya.cy_authentication.model.idtype.IdType;
 import co.com.crediya.cy_authentication.model.role.Role;
+import co.com.crediya.cy_authentication.exception.InvalidUserDataException;
 import co.com.crediya.cy_authentication.model.user.User;
+import co.com.crediya.cy_authentication.model.user.record.UserBulkDeletion;
+import co.com.crediya.cy_authentication.model.user.record.UserImportResult;
+import co.com.crediya.cy_authentication.model.user.record.UserPage;
+import co.com.crediya.cy_authentication.model.user.record.UserPageItem;
 import co.com.crediya.cy_authentication.model.user.record.UserRecord;
+import co.com.crediya.cy_authentication.model.user.record.UserSummary;
 import co.com.crediya.cy_authentication.usecase.authenticateuser.AuthenticateUserUseCase;
 import co.com.crediya.cy_authentication.usecase.idtype.IdTypeUseCase;
 import co.com.crediya.cy_authentication.usecase.role.RoleUseCase;
@@ -20,7 +31,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Flux;
@@ -31,8 +45,13 @@ import java.math.BigInteger;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -69,7 +88,8 @@ class HandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new Handler(userUseCase, idTypeUseCase, roleUseCase, userMapper, authenticateUserUseCase);
+        handler = new Handler(userUseCase, idTypeUseCase, roleUseCase, userMapper, authenticateUserUseCase,
+                new BulkLookupProperties(50, 2), new BulkImportProperties(100, 3), new BulkDeleteProperties(20));
 
         // Setup test data
         idType = IdType.builder()
@@ -109,7 +129,7 @@ class HandlerTest {
                 user.getEmail(),
                 user.getBaseSalary(),
                 role,
-                user.getPassword()
+                user.getVersion()
         );
 
         userDTO = new UserDTO();
@@ -150,10 +170,10 @@ class HandlerTest {
     void shouldGetAllUsersSuccessfully() {
         // Given
         List<UserRecord> userRecords = Arrays.asList(userRecord);
-        List<UserDTO> userDTOs = Arrays.asList(userDTO);
+        stubAccept(List.of(MediaType.APPLICATION_JSON));
 
         when(userUseCase.getAllUsers()).thenReturn(Flux.fromIterable(userRecords));
-        when(userMapper.toResponseList(userRecords)).thenReturn(userDTOs);
+        when(userMapper.toResponse(userRecord)).thenReturn(userDTO);
 
         // When
         Mono<ServerResponse> response = handler.getAllUsers(serverRequest);
@@ -162,10 +182,101 @@ class HandlerTest {
         StepVerifier.create(response)
                 .expectNextMatches(serverResponse -> 
                     serverResponse.statusCode() == HttpStatus.OK
+                        && MediaType.APPLICATION_JSON.equals(serverResponse.headers().getContentType())
+                )
+                .verifyComplete();
+        verify(userMapper, never()).toResponseList(any());
+    }
+
+    @Test
+    @DisplayName("Should stream all users as NDJSON when requested")
+    void shouldStreamAllUsersAsNdjson() {
+        // Given
+        stubAccept(List.of(MediaType.APPLICATION_NDJSON));
+        when(userUseCase.getAllUsers()).thenReturn(Flux.just(userRecord));
+        when(userMapper.toResponse(userRecord)).thenReturn(userDTO);
+
+        // When
+        Mono<ServerResponse> response = handler.getAllUsers(serverRequest);
+
+        // Then
+        StepVerifier.create(response)
+                .expectNextMatches(serverResponse ->
+                    serverResponse.statusCode() == HttpStatus.OK
+                        && MediaType.APPLICATION_NDJSON.equals(serverResponse.headers().getContentType())
+                )
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should decode the cursor and return a users page")
+    void shouldReturnUsersPage() {
+        // Given
+        when(serverRequest.queryParam("cursor")).thenReturn(Optional.of(PageCursorCodec.encode(BigInteger.valueOf(5))));
+        when(serverRequest.queryParam("size")).thenReturn(Optional.of("10"));
+        UserPageItem item = new UserPageItem(BigInteger.valueOf(6), user.getIdNumber(), user.getIdTypeId(), user.getName(),
+                user.getLastname(), user.getEmail(), user.getBaseSalary(), user.getRoleId(), 0L);
+        when(userUseCase.getUsersPage(BigInteger.valueOf(5), 10, null, null))
+                .thenReturn(Mono.just(new UserPage(List.of(item), BigInteger.valueOf(6))));
+        when(userMapper.toResponsePageItems(List.of(item))).thenReturn(List.of(new UserPageItemDTO(
+                user.getIdNumber(), user.getIdTypeId(), user.getName(), user.getLastname(), user.getEmail(),
+                user.getBaseSalary(), user.getRoleId(), 0L)));
+
+        // When
+        Mono<ServerResponse> response = handler.getUsersPage(serverRequest);
+
+        // Then
+        StepVerifier.create(response)
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.OK)
+                .verifyComplete();
+
+        verify(userMapper, never()).toResponse(any());
+    }
+
+    @Test
+    @DisplayName("Should fail with InvalidUserDataException when the cursor is tampered")
+    void shouldFailWhenCursorIsInvalid() {
+        // Given
+        when(serverRequest.queryParam("cursor")).thenReturn(Optional.of("not-a-cursor"));
+
+        // When & Then
+        StepVerifier.create(handler.getUsersPage(serverRequest))
+                .expectError(InvalidUserDataException.class)
+                .verify();
+        verify(userUseCase, never()).getUsersPage(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should stream basic info for a streamed list of emails using configured chunking")
+    void shouldStreamUsersBasicInfo() {
+        // Given
+        stubAccept(List.of(MediaType.APPLICATION_NDJSON));
+        JsonNodeFactory nodes = JsonNodeFactory.instance;
+        when(serverRequest.bodyToFlux(JsonNode.class))
+                .thenReturn(Flux.just(nodes.textNode("john.doe@example.com")));
+        UserSummary summary = new UserSummary(12345678L, "John", "Doe", "john.doe@example.com", 3000000.0);
+        when(userUseCase.streamUsersByEmail(any(), eq(50), eq(2))).thenReturn(Flux.just(summary));
+        when(userMapper.toResponseBasic(summary))
+                .thenReturn(new UserBasicInfo(12345678L, "John", "Doe", "john.doe@example.com", 3000000.0));
+
+        // When
+        Mono<ServerResponse> response = handler.getUsersBasicInfo(serverRequest);
+
+        // Then
+        StepVerifier.create(response)
+                .expectNextMatches(serverResponse ->
+                    serverResponse.statusCode() == HttpStatus.OK
+                        && MediaType.APPLICATION_NDJSON.equals(serverResponse.headers().getContentType())
                 )
                 .verifyComplete();
     }
 
+    private void stubAccept(List<MediaType> accept) {
+        ServerRequest.Headers headers = mock(ServerRequest.Headers.class);
+        when(headers.accept()).thenReturn(accept);
+        when(serverRequest.headers()).thenReturn(headers);
+    }
+
     @Test
     @DisplayName("Should create user successfully")
     void shouldCreateUserSuccessfully() {
@@ -206,6 +317,74 @@ class HandlerTest {
                 .verifyComplete();
     }
 
+    @Test
+    @DisplayName("Should import users from NDJSON using configured batch size and hash concurrency")
+    void shouldImportUsersFromNdjson() {
+        // Given
+        ServerRequest.Headers headers = mock(ServerRequest.Headers.class);
+        when(headers.contentType()).thenReturn(Optional.of(MediaType.APPLICATION_NDJSON));
+        when(headers.accept()).thenReturn(List.of(MediaType.APPLICATION_NDJSON));
+        when(serverRequest.headers()).thenReturn(headers);
+        when(serverRequest.bodyToFlux(CreateUserDTO.class)).thenReturn(Flux.just(createUserDTO));
+        when(userMapper.toModel(createUserDTO)).thenReturn(user);
+        when(userUseCase.importUsers(any(), eq(100), eq(3)))
+                .thenReturn(Flux.just(UserImportResult.created(1, 12345678L, "john.doe@example.com", BigInteger.ONE)));
+
+        // When
+        Mono<ServerResponse> response = handler.importUsers(serverRequest);
+
+        // Then
+        StepVerifier.create(response)
+                .expectNextMatches(serverResponse ->
+                    serverResponse.statusCode() == HttpStatus.OK
+                        && MediaType.APPLICATION_NDJSON.equals(serverResponse.headers().getContentType())
+                )
+                .verifyComplete();
+
+        verify(serverRequest, never()).bodyToFlux(String.class);
+    }
+
+    @Test
+    @DisplayName("Should read CSV bodies line by line when importing users")
+    void shouldImportUsersFromCsv() {
+        // Given
+        ServerRequest.Headers headers = mock(ServerRequest.Headers.class);
+        when(headers.contentType()).thenReturn(Optional.of(MediaType.parseMediaType("text/csv")));
+        when(headers.accept()).thenReturn(List.of(MediaType.APPLICATION_JSON));
+        when(serverRequest.headers()).thenReturn(headers);
+        when(serverRequest.bodyToFlux(String.class)).thenReturn(Flux.empty());
+        when(userUseCase.importUsers(any(), eq(100), eq(3))).thenReturn(Flux.empty());
+
+        // When
+        Mono<ServerResponse> response = handler.importUsers(serverRequest);
+
+        // Then
+        StepVerifier.create(response)
+                .expectNextMatches(serverResponse -> serverResponse.statusCode() == HttpStatus.OK)
+                .verifyComplete();
+
+        verify(serverRequest, never()).bodyToFlux(CreateUserDTO.class);
+    }
+
+    @Test
+    @DisplayName("Should delete users in bulk using configured chunk size")
+    void shouldDeleteUsersInBulk() {
+        // Given
+        when(serverRequest.bodyToFlux(Long.class)).thenReturn(Flux.just(1L, 2L));
+        when(userUseCase.deleteUsers(List.of(1L, 2L), 20))
+                .thenReturn(Mono.just(new UserBulkDeletion(List.of(1L), List.of(2L))));
+
+        // When
+        Mono<ServerResponse> response = handler.deleteUsers(serverRequest);
+
+        // Then
+        StepVerifier.create(response)
+                .expectNextMatches(serverResponse ->
+                    serverResponse.statusCode() == HttpStatus.OK
+                )
+                .verifyComplete();
+    }
+
     @Test
     @DisplayName("Should delete user successfully")
     void shouldDeleteUserSuccessfully() {
@@ -0,0 +1,41 @@
+package co.com.crediya.cy_authentication.api;
+
+import co.com.crediya.cy_authentication.exception.InvalidUserDataException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageCursorCodecTest {
+
+    @Test
+    @DisplayName("Should round-trip the last ID through an opaque cursor")
+    void shouldRoundTripLastId() {
+        String cursor = PageCursorCodec.encode(BigInteger.valueOf(123456789L));
+
+        assertFalse(cursor.contains("123456789"));
+        assertEquals(BigInteger.valueOf(123456789L), PageCursorCodec.decode(cursor));
+    }
+
+    @Test
+    @DisplayName("Should treat missing cursors as the first page")
+    void shouldTreatMissingCursorAsFirstPage() {
+        assertNull(PageCursorCodec.encode(null));
+        assertNull(PageCursorCodec.decode(null));
+        assertNull(PageCursorCodec.decode(""));
+    }
+
+    @Test
+    @DisplayName("Should reject cursors that were not produced by the codec")
+    void shouldRejectForeignCursors() {
+        String foreign = Base64.getUrlEncoder().encodeToString("123".getBytes());
+
+        assertThrows(InvalidUserDataException.class, () -> PageCursorCodec.decode(foreign));
+        assertThrows(InvalidUserDataException.class, () -> PageCursorCodec.decode("%%%"));
+        assertThrows(InvalidUserDataException.class, () -> PageCursorCodec.decode(
+            Base64.getUrlEncoder().encodeToString("v1:abc".getBytes())));
+    }
+}
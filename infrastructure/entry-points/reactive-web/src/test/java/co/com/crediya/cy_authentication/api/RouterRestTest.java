@@ -24,6 +24,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 
@@ -123,6 +124,41 @@ class RouterRestTest {
         verify(handler).deleteUser(any());
     }
 
+    @Test
+    @DisplayName("Should route POST /api/v1/usuarios/importar to importUsers handler")
+    void shouldRouteImportUsersToHandler() {
+        // Given
+        when(handler.importUsers(any())).thenReturn(ServerResponse.ok().build());
+
+        // When & Then
+        webTestClient.post()
+                .uri("/api/v1/usuarios/importar")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue("idNumber,idTypeId,name,lastname,birthDate,email,baseSalary,roleId,password")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(handler).importUsers(any());
+    }
+
+    @Test
+    @DisplayName("Should route POST /api/v1/usuarios/eliminar to deleteUsers handler")
+    void shouldRouteDeleteUsersToHandler() {
+        // Given
+        when(handler.deleteUsers(any())).thenReturn(ServerResponse.ok().build());
+
+        // When & Then
+        webTestClient.post()
+                .uri("/api/v1/usuarios/eliminar")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(12345678L, 87654321L))
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(handler).deleteUsers(any());
+        verify(handler, never()).createUser(any());
+    }
+
     @Test
     @DisplayName("Should route GET /api/v1/usuarios/parametros/tiposDeIdentificacion to getAllIdTypes handler")
     void shouldRouteGetAllIdTypesToHandler() {
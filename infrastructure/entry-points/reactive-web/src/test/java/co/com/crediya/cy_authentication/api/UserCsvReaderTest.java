@@ -0,0 +1,70 @@
+package co.com.crediya.cy_authentication.api;
+
+import co.com.crediya.cy_authentication.exception.InvalidUserDataException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserCsvReaderTest {
+
+    private static final String HEADER =
+        "idNumber,idTypeId,name,lastname,birthDate,address,phone,email,baseSalary,roleId,password";
+
+    @Test
+    @DisplayName("Should map CSV rows to DTOs using the header order")
+    void shouldMapRowsUsingHeader() {
+        Flux<String> lines = Flux.just(
+            HEADER,
+            "12345678,1,Juan,Pérez,1990-01-01,\"Calle 1, Apto \"\"2\"\"\",3001234567,juan@example.com,2500000,2,secret\r",
+            "",
+            "87654321,1,Ana,Gómez,1985-05-05,,,ana@example.com,1000000,3,secret");
+
+        StepVerifier.create(UserCsvReader.read(lines))
+            .assertNext(dto -> {
+                assertEquals(12345678L, dto.getIdNumber());
+                assertEquals("Calle 1, Apto \"2\"", dto.getAddress());
+                assertEquals(LocalDate.of(1990, 1, 1), dto.getBirthDate());
+                assertEquals("secret", dto.getPassword());
+            })
+            .assertNext(dto -> {
+                assertEquals("ana@example.com", dto.getEmail());
+                assertNull(dto.getAddress());
+                assertNull(dto.getPhone());
+            })
+            .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should reject headers missing required columns")
+    void shouldRejectHeaderMissingColumns() {
+        StepVerifier.create(UserCsvReader.read(Flux.just("idNumber,name,email")))
+            .expectErrorMatches(ex -> ex instanceof InvalidUserDataException
+                && ex.getMessage().contains("idTypeId"))
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Should report the row number of unparsable values")
+    void shouldReportRowOfInvalidValue() {
+        Flux<String> lines = Flux.just(
+            HEADER,
+            "abc,1,Juan,Pérez,1990-01-01,,,juan@example.com,2500000,2,secret");
+
+        StepVerifier.create(UserCsvReader.read(lines))
+            .expectErrorMatches(ex -> ex instanceof InvalidUserDataException
+                && ex.getMessage().equals("Fila 1: valor inválido para la columna idNumber"))
+            .verify();
+    }
+
+    @Test
+    @DisplayName("Should emit nothing for an empty body")
+    void shouldEmitNothingForEmptyBody() {
+        StepVerifier.create(UserCsvReader.read(Flux.empty()))
+            .verifyComplete();
+    }
+}
@@ -0,0 +1,70 @@
+package co.com.crediya.cy_authentication.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptivePasswordEncoderTest {
+
+  private static final String RAW = "SuperSecret123!";
+
+  @Test
+  @DisplayName("Codifica con BCrypt al costo objetivo y verifica hashes de otros costos")
+  void bcryptEncodesAtTargetStrengthAndVerifiesLegacyHashes() {
+    AdaptivePasswordEncoder encoder = AdaptivePasswordEncoder.bcrypt(5);
+
+    String encoded = encoder.encode(RAW);
+    String legacy = new BCryptPasswordEncoder(4).encode(RAW);
+
+    assertTrue(encoded.startsWith("$2a$05$"));
+    assertTrue(encoder.matches(RAW, encoded));
+    assertTrue(encoder.matches(RAW, legacy));
+    assertFalse(encoder.matches("otra", legacy));
+  }
+
+  @Test
+  @DisplayName("Solicita rehash cuando el costo BCrypt difiere del objetivo, en ambos sentidos")
+  void bcryptRequestsUpgradeWhenStrengthDiffers() {
+    AdaptivePasswordEncoder encoder = AdaptivePasswordEncoder.bcrypt(5);
+
+    assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode(RAW)));
+    assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode(RAW)));
+    assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode(RAW)));
+    assertFalse(encoder.upgradeEncoding(null));
+    assertFalse(encoder.upgradeEncoding(""));
+  }
+
+  @Test
+  @DisplayName("Con Argon2id codifica en Argon2, verifica BCrypt heredado y pide migrarlo")
+  void argon2EncodesAndMigratesBcryptHashes() {
+    AdaptivePasswordEncoder encoder = AdaptivePasswordEncoder.argon2id(1024, 1, 1);
+
+    String encoded = encoder.encode(RAW);
+    String legacy = new BCryptPasswordEncoder(4).encode(RAW);
+
+    assertTrue(encoded.startsWith("$argon2id$"));
+    assertTrue(encoder.matches(RAW, encoded));
+    assertTrue(encoder.matches(RAW, legacy));
+    assertFalse(encoder.upgradeEncoding(encoded));
+    assertTrue(encoder.upgradeEncoding(legacy));
+  }
+
+  @Test
+  @DisplayName("El calibrador respeta los límites mínimo y máximo de costo")
+  void calibratorClampsStrength() {
+    assertEquals(BCryptCostCalibrator.MIN_STRENGTH, BCryptCostCalibrator.calibrate(java.time.Duration.ofNanos(1)));
+    assertEquals(BCryptCostCalibrator.MAX_STRENGTH, BCryptCostCalibrator.calibrate(java.time.Duration.ofDays(1)));
+  }
+
+  @Test
+  @DisplayName("Usa un costo BCrypt fijo por defecto y la calibración no lo modifica")
+  void bcryptStrengthIsFixedEvenWhenCalibrating() {
+    PasswordHashingProperties defaults = new PasswordHashingProperties(null, null, null, false, null, null, null);
+    PasswordHashingProperties calibrating = new PasswordHashingProperties(null, java.time.Duration.ofDays(1), 5, true, null, null, null);
+
+    assertEquals(PasswordHashingProperties.DEFAULT_BCRYPT_STRENGTH, defaults.bcryptStrength());
+    assertTrue(new PasswordEncoderConfig().passwordEncoder(calibrating).encode(RAW).startsWith("$2a$05$"));
+  }
+}
@@ -1,10 +1,13 @@
 package co.com.crediya.cy_authentication.api.config;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.test.StepVerifier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -12,11 +15,19 @@ import static org.mockito.Mockito.*;
 
 class BCryptPasswordHasherTest {
 
+  private final PasswordHashingExecutor hashingExecutor =
+      new PasswordHashingExecutor(2, 8, new SimpleMeterRegistry());
+
+  @AfterEach
+  void tearDown() {
+    hashingExecutor.destroy();
+  }
+
   @Test
   @DisplayName("hash y matches funcionan con BCrypt real")
   void hashAndMatchesWithRealBCrypt() {
     PasswordEncoder realEncoder = new BCryptPasswordEncoder(10);
-    BCryptPasswordHasher hasher = new BCryptPasswordHasher(realEncoder);
+    BCryptPasswordHasher hasher = new BCryptPasswordHasher(realEncoder, hashingExecutor);
 
     String raw = "SuperSecret123!";
     String hash1 = hasher.hash(raw);
@@ -38,7 +49,7 @@ class BCryptPasswordHasherTest {
     when(encoder.matches("a", "H")).thenReturn(true);
     when(encoder.matches("b", "H")).thenReturn(false);
 
-    BCryptPasswordHasher hasher = new BCryptPasswordHasher(encoder);
+    BCryptPasswordHasher hasher = new BCryptPasswordHasher(encoder, hashingExecutor);
 
     String hashed = hasher.hash("a");
     assertEquals("ENC", hashed);
@@ -52,4 +63,35 @@ class BCryptPasswordHasherTest {
     // No se llama a encode/ matches con otros argumentos
     verify(encoder, times(1)).encode(any());
   }
+
+  @Test
+  @DisplayName("hashAsync y matchesAsync se ejecutan en el pool dedicado de hashing")
+  void asyncOperationsRunOnHashingPool() {
+    PasswordEncoder encoder = Mockito.mock(PasswordEncoder.class);
+    when(encoder.encode("a")).thenAnswer(inv -> Thread.currentThread().getName());
+    when(encoder.matches("a", "H")).thenAnswer(inv -> Thread.currentThread().getName().startsWith("password-hashing-"));
+
+    BCryptPasswordHasher hasher = new BCryptPasswordHasher(encoder, hashingExecutor);
+
+    StepVerifier.create(hasher.hashAsync("a"))
+        .assertNext(threadName -> assertTrue(threadName.startsWith("password-hashing-")))
+        .verifyComplete();
+
+    StepVerifier.create(hasher.matchesAsync("a", "H"))
+        .expectNext(true)
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("needsRehash delega en upgradeEncoding del PasswordEncoder")
+  void needsRehashDelegatesToUpgradeEncoding() {
+    PasswordEncoder encoder = Mockito.mock(PasswordEncoder.class);
+    when(encoder.upgradeEncoding("OLD")).thenReturn(true);
+    when(encoder.upgradeEncoding("NEW")).thenReturn(false);
+
+    BCryptPasswordHasher hasher = new BCryptPasswordHasher(encoder, hashingExecutor);
+
+    assertTrue(hasher.needsRehash("OLD"));
+    assertFalse(hasher.needsRehash("NEW"));
+  }
 }
@@ -4,10 +4,13 @@ import co.com.crediya.cy_authentication.api.dto.ErrorResponse;
 import co.com.crediya.cy_authentication.exception.DataPersistenceException;
 import co.com.crediya.cy_authentication.exception.InvalidCredentialsException;
 import co.com.crediya.cy_authentication.exception.InvalidUserDataException;
+import co.com.crediya.cy_authentication.exception.ServiceOverloadedException;
 import co.com.crediya.cy_authentication.exception.UserNotFoundException;
+import co.com.crediya.cy_authentication.exception.UserVersionConflictException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
@@ -71,6 +74,24 @@ class GlobalExceptionHandlerTest {
         .verifyComplete();
   }
 
+  @Test
+  @DisplayName("UserVersionConflictException -> 409")
+  void handleUserVersionConflict() {
+    var ex = new UserVersionConflictException("versión desactualizada");
+    var exch = exchange("/api/users");
+
+    StepVerifier.create(handler.handleUserVersionConflictException(ex, exch))
+        .assertNext(resp -> {
+          assertEquals(HttpStatus.CONFLICT, resp.getStatusCode());
+          var body = resp.getBody();
+          assertNotNull(body);
+          assertEquals("versión desactualizada", body.getMessage());
+          assertEquals(409, body.getStatus());
+          assertEquals("Conflict", body.getError());
+        })
+        .verifyComplete();
+  }
+
   @Test
   @DisplayName("InvalidCredentialsException -> 401")
   void handleInvalidCredentialsCustom() {
@@ -141,4 +162,22 @@ class GlobalExceptionHandlerTest {
         })
         .verifyComplete();
   }
+
+  @Test
+  @DisplayName("ServiceOverloadedException -> 503 con Retry-After")
+  void handleServiceOverloaded() {
+    var ex = new ServiceOverloadedException("ocupado");
+    var exch = exchange("/api/v1/usuarios/login");
+
+    StepVerifier.create(handler.handleServiceOverloadedException(ex, exch))
+        .assertNext(resp -> {
+          assertEquals(HttpStatus.SERVICE_UNAVAILABLE, resp.getStatusCode());
+          assertEquals("1", resp.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+          ErrorResponse body = resp.getBody();
+          assertNotNull(body);
+          assertEquals("ocupado", body.getMessage());
+          assertEquals(503, body.getStatus());
+        })
+        .verifyComplete();
+  }
 }
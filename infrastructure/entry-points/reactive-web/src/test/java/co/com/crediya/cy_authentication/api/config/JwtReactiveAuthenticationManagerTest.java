@@ -9,8 +9,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import reactor.test.StepVerifier;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,7 +29,7 @@ class JwtReactiveAuthenticationManagerTest {
   @BeforeEach
   void setUp() {
     tokenGenerator = mock(TokenGenerator.class);
-    authManager = new JwtReactiveAuthenticationManager(tokenGenerator);
+    authManager = new JwtReactiveAuthenticationManager(tokenGenerator, new VerifiedTokenCache(100, new SimpleMeterRegistry()), false);
   }
 
   @Test
@@ -100,4 +102,60 @@ class JwtReactiveAuthenticationManagerTest {
 
     verify(tokenGenerator).verify(null);
   }
+
+  @Test
+  @DisplayName("Reutiliza la autenticación cacheada y no vuelve a verificar el token")
+  void authenticateUsesCachedToken() {
+    String token = "cached-token";
+    var data = new TokenData("user-123", List.of(2));
+    data.setExpiresAt(Instant.now().plusSeconds(60));
+
+    when(tokenGenerator.verify(token)).thenReturn(Optional.of(data));
+
+    var inputAuth = new UsernamePasswordAuthenticationToken("ignored", token);
+
+    StepVerifier.create(authManager.authenticate(inputAuth))
+        .assertNext(auth -> assertEquals("user-123", auth.getName()))
+        .verifyComplete();
+
+    StepVerifier.create(authManager.authenticate(inputAuth))
+        .assertNext(auth -> assertEquals("user-123", auth.getName()))
+        .verifyComplete();
+
+    verify(tokenGenerator, times(1)).verify(token);
+  }
+
+  @Test
+  @DisplayName("No cachea tokens sin fecha de expiración")
+  void authenticateDoesNotCacheTokenWithoutExpiration() {
+    String token = "no-exp-token";
+    when(tokenGenerator.verify(token)).thenReturn(Optional.of(new TokenData("user-1", List.of(3))));
+
+    var inputAuth = new UsernamePasswordAuthenticationToken("ignored", token);
+
+    StepVerifier.create(authManager.authenticate(inputAuth)).expectNextCount(1).verifyComplete();
+    StepVerifier.create(authManager.authenticate(inputAuth)).expectNextCount(1).verifyComplete();
+
+    verify(tokenGenerator, times(2)).verify(token);
+  }
+
+  @Test
+  @DisplayName("Con verify-on-bounded-elastic activo la verificación se hace en boundedElastic")
+  void authenticateOffloadsVerificationWhenConfigured() {
+    String token = "offloaded-token";
+    var offloadingManager = new JwtReactiveAuthenticationManager(
+        tokenGenerator, new VerifiedTokenCache(100, new SimpleMeterRegistry()), true);
+    var verifyingThread = new java.util.concurrent.atomic.AtomicReference<String>();
+
+    when(tokenGenerator.verify(token)).thenAnswer(inv -> {
+      verifyingThread.set(Thread.currentThread().getName());
+      return Optional.of(new TokenData("user-1", List.of(1)));
+    });
+
+    StepVerifier.create(offloadingManager.authenticate(new UsernamePasswordAuthenticationToken("ignored", token)))
+        .expectNextCount(1)
+        .verifyComplete();
+
+    org.assertj.core.api.Assertions.assertThat(verifyingThread.get()).startsWith("boundedElastic");
+  }
 }
@@ -30,6 +30,7 @@ class JwtTokenGeneratorTest {
     TokenData data = dataOpt.get();
 
     assertEquals("user-123", data.getSubject());
+    assertNotNull(data.getExpiresAt(), "Debe exponer la expiración del token");
     // Ignorar orden de roles
     var roles = data.getRoles();
     assertEquals(2, roles.size());
@@ -0,0 +1,74 @@
+package co.com.crediya.cy_authentication.api.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JwtVerificationBlockHoundTest {
+
+  private static final String SECRET = "0123456789ABCDEF0123456789ABCDEF";
+
+  private JwtTokenGenerator generator;
+  private JwtReactiveAuthenticationManager authManager;
+
+  @BeforeAll
+  static void installBlockHound() {
+    BlockHound.install();
+  }
+
+  @BeforeEach
+  void setUp() {
+    generator = new JwtTokenGenerator(SECRET);
+    authManager = new JwtReactiveAuthenticationManager(
+        generator, new VerifiedTokenCache(100, new SimpleMeterRegistry()), false);
+
+    // Calentamiento fuera de los hilos no bloqueantes (carga de clases de jjwt/Jackson)
+    generator.verify(generator.generate("warmup", List.of(1), Duration.ofMinutes(1)));
+  }
+
+  @Test
+  @DisplayName("BlockHound está activo y detecta llamadas bloqueantes en hilos non-blocking")
+  void blockHoundDetectsBlockingCalls() {
+    StepVerifier.create(Mono.fromCallable(() -> {
+              Thread.sleep(1);
+              return 1;
+            })
+            .subscribeOn(Schedulers.parallel()))
+        .expectError(BlockingOperationError.class)
+        .verify();
+  }
+
+  @Test
+  @DisplayName("La verificación inline del token no bloquea el hilo non-blocking")
+  void inlineVerificationDoesNotBlock() {
+    String token = generator.generate("user-123", List.of(1, 3), Duration.ofMinutes(5));
+
+    StepVerifier.create(authManager.authenticate(new UsernamePasswordAuthenticationToken(token, token))
+            .subscribeOn(Schedulers.parallel()))
+        .assertNext(auth -> assertEquals("user-123", auth.getName()))
+        .verifyComplete();
+  }
+
+  @Test
+  @DisplayName("El rechazo de un token inválido tampoco bloquea el hilo non-blocking")
+  void inlineRejectionDoesNotBlock() {
+    StepVerifier.create(authManager.authenticate(new UsernamePasswordAuthenticationToken("x", "abc.def.ghi"))
+            .subscribeOn(Schedulers.parallel()))
+        .expectError(BadCredentialsException.class)
+        .verify();
+  }
+}
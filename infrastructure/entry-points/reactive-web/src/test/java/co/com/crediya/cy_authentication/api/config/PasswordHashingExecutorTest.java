@@ -0,0 +1,76 @@
+package co.com.crediya.cy_authentication.api.config;
+
+import co.com.crediya.cy_authentication.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingExecutorTest {
+
+  private SimpleMeterRegistry registry;
+  private PasswordHashingExecutor executor;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    executor = new PasswordHashingExecutor(1, 1, registry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.destroy();
+  }
+
+  @Test
+  @DisplayName("Ejecuta la tarea y registra espera y duración")
+  void runsTaskAndRecordsMetrics() {
+    StepVerifier.create(executor.submit("hash", () -> "hashed"))
+        .expectNext("hashed")
+        .verifyComplete();
+
+    assertEquals(1, registry.get("password.hashing.wait").timer().count());
+    assertEquals(1, registry.get("password.hashing.duration").tag("operation", "hash").timer().count());
+    assertNotNull(registry.get("password.hashing.queue.depth").gauge());
+  }
+
+  @Test
+  @DisplayName("Rechaza de inmediato con ServiceOverloadedException cuando la cola está llena")
+  void rejectsWhenQueueIsFull() throws InterruptedException {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    // Ocupa el único hilo y la única posición de la cola
+    executor.submit("matches", () -> {
+      started.countDown();
+      return release.await(5, TimeUnit.SECONDS);
+    }).subscribe();
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    executor.submit("matches", () -> true).subscribe();
+
+    StepVerifier.create(executor.submit("matches", () -> true))
+        .expectError(ServiceOverloadedException.class)
+        .verify(Duration.ofSeconds(1));
+
+    assertEquals(1.0, registry.get("password.hashing.rejected").counter().count());
+    release.countDown();
+  }
+
+  @Test
+  @DisplayName("Propaga los errores de la tarea")
+  void propagatesTaskErrors() {
+    StepVerifier.create(executor.submit("hash", () -> {
+          throw new IllegalStateException("boom");
+        }))
+        .expectErrorMessage("boom")
+        .verify();
+  }
+}
@@ -75,6 +75,21 @@ class SecurityConfigTest {
         .expectStatus().isCreated();
   }
 
+  @Test
+  void bulkDeleteRequiresAdminOrAsesor() {
+    client.post().uri(BASE + "/eliminar").exchange().expectStatus().isUnauthorized();
+
+    client.post().uri(BASE + "/eliminar")
+        .header("Authorization", "Bearer cliente-token")
+        .exchange()
+        .expectStatus().isForbidden();
+
+    client.post().uri(BASE + "/eliminar")
+        .header("Authorization", "Bearer asesor-token")
+        .exchange()
+        .expectStatus().isOk();
+  }
+
   @Test
   void otherRequiresAuthenticated() {
     client.get().uri(BASE + "/other").exchange().expectStatus().isUnauthorized();
@@ -85,6 +100,36 @@ class SecurityConfigTest {
         .expectStatus().isOk();
   }
 
+  @Test
+  void referenceDataRefreshRequiresAdmin() {
+    client.post().uri("/actuator/referencedata").exchange().expectStatus().isUnauthorized();
+
+    client.post().uri("/actuator/referencedata")
+        .header("Authorization", "Bearer asesor-token")
+        .exchange()
+        .expectStatus().isForbidden();
+
+    client.post().uri("/actuator/referencedata")
+        .header("Authorization", "Bearer admin-token")
+        .exchange()
+        .expectStatus().isOk();
+  }
+
+  @Test
+  void connectionPoolResizeRequiresAdmin() {
+    client.post().uri("/actuator/connectionpool").exchange().expectStatus().isUnauthorized();
+
+    client.post().uri("/actuator/connectionpool")
+        .header("Authorization", "Bearer asesor-token")
+        .exchange()
+        .expectStatus().isForbidden();
+
+    client.post().uri("/actuator/connectionpool")
+        .header("Authorization", "Bearer admin-token")
+        .exchange()
+        .expectStatus().isOk();
+  }
+
   // Boot configuration mínima para el contexto de pruebas
   @SpringBootConfiguration
   @EnableAutoConfiguration
@@ -97,8 +142,11 @@ class SecurityConfigTest {
     RouterFunction<ServerResponse> routes() {
       return route(POST("/api/v1/usuarios/login"), req -> ServerResponse.ok().build())
           .andRoute(POST("/api/v1/usuarios"), req -> ServerResponse.status(201).build())
+          .andRoute(POST("/api/v1/usuarios/eliminar"), req -> ServerResponse.ok().build())
           .andRoute(GET("/api/v1/usuarios/infoUsuarios"), req -> ServerResponse.ok().build())
-          .andRoute(GET("/api/v1/usuarios/other"), req -> ServerResponse.ok().build());
+          .andRoute(GET("/api/v1/usuarios/other"), req -> ServerResponse.ok().build())
+          .andRoute(POST("/actuator/referencedata"), req -> ServerResponse.ok().build())
+          .andRoute(POST("/actuator/connectionpool"), req -> ServerResponse.ok().build());
     }
   }
 
@@ -0,0 +1,60 @@
+package co.com.crediya.cy_authentication.api.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+
+  private SimpleMeterRegistry registry;
+  private VerifiedTokenCache cache;
+  private Authentication auth;
+
+  @BeforeEach
+  void setUp() {
+    registry = new SimpleMeterRegistry();
+    cache = new VerifiedTokenCache(10, registry);
+    auth = new UsernamePasswordAuthenticationToken("user-1", "token", List.of());
+  }
+
+  @Test
+  @DisplayName("Devuelve la autenticación cacheada para el mismo token")
+  void returnsCachedAuthentication() {
+    cache.put("token", auth, Instant.now().plusSeconds(60));
+
+    assertSame(auth, cache.get("token").orElseThrow());
+    assertTrue(cache.get("otro-token").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Ignora tokens nulos, sin expiración o ya expirados")
+  void ignoresNullOrExpiredTokens() {
+    cache.put(null, auth, Instant.now().plusSeconds(60));
+    cache.put("sin-exp", auth, null);
+    cache.put("expirado", auth, Instant.now().minusSeconds(1));
+
+    assertTrue(cache.get(null).isEmpty());
+    assertTrue(cache.get("sin-exp").isEmpty());
+    assertTrue(cache.get("expirado").isEmpty());
+  }
+
+  @Test
+  @DisplayName("Publica métricas de aciertos y fallos en el registry")
+  void publishesHitAndMissMetrics() {
+    cache.put("token", auth, Instant.now().plusSeconds(60));
+    cache.get("token");
+    cache.get("desconocido");
+
+    assertEquals(1.0, registry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", "hit").functionCounter().count());
+    assertEquals(1.0, registry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", "miss").functionCounter().count());
+    assertNotNull(registry.get("cache.evictions").tag("cache", "verifiedTokens").functionCounter());
+  }
+}
@@ -57,7 +57,7 @@ class UserDTOMapperTest {
                 "john.doe@example.com",
                 3000000.0,
                 role,
-                "password123"
+                0L
         );
 
         createUserDTO = new CreateUserDTO();
@@ -105,7 +105,15 @@ class UserDTOMapperTest {
         assertEquals(userRecord.email(), result.getEmail());
         assertEquals(userRecord.baseSalary(), result.getBaseSalary());
         assertEquals(userRecord.role(), result.getRole());
-        assertEquals(userRecord.password(), result.getPassword());
+        assertEquals(userRecord.version(), result.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should not expose a password property in the user response")
+    void shouldNotExposePasswordInUserResponse() {
+        // When & Then
+        assertTrue(Arrays.stream(UserDTO.class.getDeclaredFields())
+                .noneMatch(field -> field.getName().equals("password")));
     }
 
     @Test